@@ -0,0 +1,34 @@
+package com.example.winehood.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "winehood.cache.enabled", havingValue = "true")
+public class CacheConfig {
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${winehood.cache.local.maximum-size}") int localMaximumSize,
+            @Value("${winehood.cache.local.ttl}") Duration localTimeToLive,
+            @Value("${winehood.cache.shared.ttl}") Duration sharedTimeToLive,
+            ObjectProvider<SharedCacheStore> sharedCacheStore,
+            MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(CatalogCacheNames.ALL, localMaximumSize,
+                localTimeToLive, sharedCacheStore.getIfAvailable(), sharedTimeToLive,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "winehood.cache.shared.store", havingValue = "in-memory")
+    public SharedCacheStore inMemorySharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.winehood.cache;
+
+import java.time.Instant;
+
+public record CacheInvalidation(Type type, Long entityId, String name, Instant occurredAt) {
+    public enum Type {
+        WINE,
+        WINE_CATALOG,
+        REGION,
+        USER
+    }
+}
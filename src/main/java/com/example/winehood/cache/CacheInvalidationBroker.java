@@ -0,0 +1,5 @@
+package com.example.winehood.cache;
+
+public interface CacheInvalidationBroker {
+    void publish(CacheInvalidation invalidation);
+}
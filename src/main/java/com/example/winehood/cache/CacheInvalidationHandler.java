@@ -0,0 +1,88 @@
+package com.example.winehood.cache;
+
+import com.example.winehood.security.TokenRevocationRegistry;
+import com.example.winehood.security.UserPrincipalCache;
+import com.example.winehood.service.region.RegionChangedEvent;
+import com.example.winehood.service.search.SearchIndexUpdater;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheInvalidationHandler {
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final SearchIndexUpdater searchIndexUpdater;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    public CacheInvalidationHandler(ObjectProvider<CacheManager> cacheManager,
+                                    SearchIndexUpdater searchIndexUpdater,
+                                    UserPrincipalCache userPrincipalCache,
+                                    TokenRevocationRegistry tokenRevocationRegistry) {
+        this.cacheManager = cacheManager;
+        this.searchIndexUpdater = searchIndexUpdater;
+        this.userPrincipalCache = userPrincipalCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+    }
+
+    public void apply(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case WINE -> {
+                evict(CatalogCacheNames.WINE, invalidation.entityId());
+                clear(CatalogCacheNames.WINES);
+                clear(CatalogCacheNames.WINES_BY_REGION);
+                searchIndexUpdater.onWineChanged(new WineChangedEvent(invalidation.entityId()));
+            }
+            case WINE_CATALOG -> {
+                clear(CatalogCacheNames.WINE);
+                clear(CatalogCacheNames.WINES);
+                clear(CatalogCacheNames.WINES_BY_REGION);
+                searchIndexUpdater.onWineCatalogChanged(new WineCatalogChangedEvent());
+            }
+            case REGION -> {
+                evict(CatalogCacheNames.REGION, invalidation.entityId());
+                clear(CatalogCacheNames.REGIONS);
+                clear(CatalogCacheNames.WINE);
+                clear(CatalogCacheNames.WINES);
+                clear(CatalogCacheNames.WINES_BY_REGION);
+                searchIndexUpdater.onRegionChanged(
+                        new RegionChangedEvent(invalidation.entityId()));
+            }
+            case USER -> {
+                userPrincipalCache.evict(invalidation.name());
+                tokenRevocationRegistry.revokeIssuedBefore(
+                        invalidation.entityId(), invalidation.occurredAt());
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unsupported cache invalidation type: " + invalidation.type());
+        }
+    }
+
+    public void reset() {
+        CatalogCacheNames.ALL.forEach(this::clear);
+        userPrincipalCache.clear();
+        searchIndexUpdater.rebuild();
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Cache getCache(String cacheName) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager == null ? null : manager.getCache(cacheName);
+    }
+}
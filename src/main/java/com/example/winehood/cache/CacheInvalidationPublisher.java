@@ -0,0 +1,42 @@
+package com.example.winehood.cache;
+
+import com.example.winehood.service.region.RegionChangedEvent;
+import com.example.winehood.service.user.UserChangedEvent;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineChangedEvent;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+    private final CacheInvalidationBroker cacheInvalidationBroker;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWineChanged(WineChangedEvent event) {
+        cacheInvalidationBroker.publish(new CacheInvalidation(
+                CacheInvalidation.Type.WINE, event.wineId(), null, Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWineCatalogChanged(WineCatalogChangedEvent event) {
+        cacheInvalidationBroker.publish(new CacheInvalidation(
+                CacheInvalidation.Type.WINE_CATALOG, 0L, null, Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRegionChanged(RegionChangedEvent event) {
+        cacheInvalidationBroker.publish(new CacheInvalidation(
+                CacheInvalidation.Type.REGION, event.regionId(), null, Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        event.usernames().forEach(username -> cacheInvalidationBroker.publish(
+                new CacheInvalidation(CacheInvalidation.Type.USER, event.userId(), username,
+                        event.tokensIssuedBefore())));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.winehood.cache;
+
+import java.util.List;
+
+public final class CatalogCacheNames {
+    public static final String WINE = "wine";
+    public static final String WINES = "wines";
+    public static final String WINES_BY_REGION = "winesByRegion";
+    public static final String REGION = "region";
+    public static final String REGIONS = "regions";
+    public static final List<String> ALL = List.of(WINE, WINES, WINES_BY_REGION, REGION, REGIONS);
+
+    private CatalogCacheNames() {
+    }
+}
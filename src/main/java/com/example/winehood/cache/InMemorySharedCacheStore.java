@@ -0,0 +1,56 @@
+package com.example.winehood.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemorySharedCacheStore implements SharedCacheStore {
+    private final Map<String, Map<Object, Entry>> caches = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemorySharedCacheStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemorySharedCacheStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Map<Object, Entry> entries = caches.get(cacheName);
+        Entry entry = entries == null ? null : entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration timeToLive) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .put(key, new Entry(value, clock.instant().plus(timeToLive)));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Entry> entries = caches.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+}
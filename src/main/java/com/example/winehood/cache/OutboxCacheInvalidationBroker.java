@@ -0,0 +1,167 @@
+package com.example.winehood.cache;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxCacheInvalidationBroker implements CacheInvalidationBroker {
+    private static final String INSERT = "INSERT INTO cache_invalidations"
+            + " (node_id, type, entity_id, name, occurred_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_COLUMNS =
+            "SELECT id, node_id, type, entity_id, name, occurred_at FROM cache_invalidations";
+    private static final String SELECT_AFTER = SELECT_COLUMNS
+            + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_IN = SELECT_COLUMNS + " WHERE id IN (%s)";
+    private static final String SELECT_LAST_ID =
+            "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations";
+    private static final String DELETE_BEFORE =
+            "DELETE FROM cache_invalidations WHERE occurred_at < ?";
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationHandler cacheInvalidationHandler;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration gapTimeout;
+    private final int maxGaps;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final Map<Long, Instant> gaps = new ConcurrentHashMap<>();
+    private final AtomicReference<Instant> resetAt = new AtomicReference<>();
+
+    public OutboxCacheInvalidationBroker(
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationHandler cacheInvalidationHandler,
+            @Value("${winehood.cache.invalidation.node-id}") String nodeId,
+            @Value("${winehood.cache.invalidation.batch-size}") int batchSize,
+            @Value("${winehood.cache.invalidation.retention}") Duration retention,
+            @Value("${winehood.cache.invalidation.gap-timeout}") Duration gapTimeout,
+            @Value("${winehood.cache.invalidation.max-gaps}") int maxGaps) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationHandler = cacheInvalidationHandler;
+        this.nodeId = nodeId;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+        this.maxGaps = maxGaps;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        jdbcTemplate.update(INSERT, nodeId, invalidation.type().name(),
+                invalidation.entityId(), invalidation.name(),
+                Timestamp.from(invalidation.occurredAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCursor() {
+        cursor.compareAndSet(-1, jdbcTemplate.queryForObject(SELECT_LAST_ID, Long.class));
+    }
+
+    @Scheduled(fixedDelayString = "${winehood.cache.invalidation.poll-interval}")
+    public void poll() {
+        long lastSeenId = cursor.get();
+        if (lastSeenId < 0) {
+            return;
+        }
+        pollGaps();
+        resetIfDue();
+        List<Received> received;
+        do {
+            received = jdbcTemplate.query(SELECT_AFTER, this::toReceived,
+                    lastSeenId, batchSize);
+            for (Received invalidation : received) {
+                trackGaps(lastSeenId, invalidation.id());
+                apply(invalidation);
+                lastSeenId = invalidation.id();
+                cursor.set(lastSeenId);
+            }
+        } while (received.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${winehood.cache.invalidation.cleanup-interval}")
+    public void deleteExpired() {
+        jdbcTemplate.update(DELETE_BEFORE, Timestamp.from(Instant.now().minus(retention)));
+    }
+
+    private void pollGaps() {
+        Instant now = Instant.now();
+        gaps.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        List<Long> ids = gaps.keySet().stream().sorted().toList();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(SELECT_IN.formatted(placeholders), this::toReceived,
+                            chunk.toArray())
+                    .stream()
+                    .filter(invalidation -> gaps.remove(invalidation.id()) != null)
+                    .forEach(this::apply);
+        }
+    }
+
+    private void trackGaps(long lastSeenId, long id) {
+        long missing = id - lastSeenId - 1;
+        if (missing <= 0) {
+            return;
+        }
+        if (gaps.size() + missing > maxGaps) {
+            log.warn("Can't track {} missing cache invalidation ids after id {}, {} are"
+                    + " already tracked; resetting local caches", missing, lastSeenId,
+                    gaps.size());
+            reset();
+            resetAt.set(Instant.now().plus(gapTimeout));
+            return;
+        }
+        Instant expiresAt = Instant.now().plus(gapTimeout);
+        for (long missingId = lastSeenId + 1; missingId < id; missingId++) {
+            gaps.put(missingId, expiresAt);
+        }
+    }
+
+    private void resetIfDue() {
+        Instant due = resetAt.get();
+        if (due != null && !due.isAfter(Instant.now()) && resetAt.compareAndSet(due, null)) {
+            log.warn("Resetting local caches again after untracked cache invalidation ids"
+                    + " had {} to commit", gapTimeout);
+            reset();
+        }
+    }
+
+    private void reset() {
+        gaps.clear();
+        cacheInvalidationHandler.reset();
+    }
+
+    private void apply(Received invalidation) {
+        if (!nodeId.equals(invalidation.nodeId())) {
+            cacheInvalidationHandler.apply(invalidation.invalidation());
+        }
+    }
+
+    private Received toReceived(ResultSet resultSet, int rowNumber) throws SQLException {
+        return new Received(resultSet.getLong("id"), resultSet.getString("node_id"),
+                new CacheInvalidation(
+                        CacheInvalidation.Type.valueOf(resultSet.getString("type")),
+                        resultSet.getLong("entity_id"),
+                        resultSet.getString("name"),
+                        resultSet.getTimestamp("occurred_at").toInstant()));
+    }
+
+    private record Received(long id, String nodeId, CacheInvalidation invalidation) {
+    }
+}
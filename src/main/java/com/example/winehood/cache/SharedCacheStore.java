@@ -0,0 +1,13 @@
+package com.example.winehood.cache;
+
+import java.time.Duration;
+
+public interface SharedCacheStore {
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration timeToLive);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
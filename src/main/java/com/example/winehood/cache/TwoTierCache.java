@@ -0,0 +1,102 @@
+package com.example.winehood.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final LocalCache<Object, Object> localTier;
+    private final SharedCacheStore sharedTier;
+    private final Duration sharedTimeToLive;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public TwoTierCache(String name, LocalCache<Object, Object> localTier,
+                        SharedCacheStore sharedTier, Duration sharedTimeToLive,
+                        MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.localTier = localTier.bindTo(meterRegistry, name);
+        this.sharedTier = sharedTier;
+        this.sharedTimeToLive = sharedTimeToLive;
+        this.sharedHits = Counter.builder("cache.shared.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.sharedMisses = Counter.builder("cache.shared.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localTier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        localTier.put(key, storeValue);
+        if (sharedTier != null) {
+            sharedTier.put(name, key, storeValue, sharedTimeToLive);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        localTier.evict(key);
+        if (sharedTier != null) {
+            sharedTier.evict(name, key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        localTier.clear();
+        if (sharedTier != null) {
+            sharedTier.clear(name);
+        }
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localTier.getIfPresent(key);
+        if (value != null || sharedTier == null) {
+            return value;
+        }
+        value = sharedTier.get(name, key);
+        if (value == null) {
+            sharedMisses.increment();
+            return null;
+        }
+        sharedHits.increment();
+        localTier.put(key, value);
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.winehood.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+    private final Collection<String> cacheNames;
+    private final int localMaximumSize;
+    private final Duration localTimeToLive;
+    private final SharedCacheStore sharedCacheStore;
+    private final Duration sharedTimeToLive;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(Collection<String> cacheNames, int localMaximumSize,
+                               Duration localTimeToLive, SharedCacheStore sharedCacheStore,
+                               Duration sharedTimeToLive, MeterRegistry meterRegistry) {
+        this.cacheNames = List.copyOf(cacheNames);
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+        this.sharedCacheStore = sharedCacheStore;
+        this.sharedTimeToLive = sharedTimeToLive;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheNames.stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+        return new TwoTierCache(name,
+                new LocalCache<>(localMaximumSize, localTimeToLive),
+                sharedCacheStore,
+                sharedTimeToLive,
+                meterRegistry);
+    }
+}
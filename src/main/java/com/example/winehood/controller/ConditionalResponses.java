@@ -0,0 +1,33 @@
+package com.example.winehood.controller;
+
+import com.example.winehood.dto.version.ResourceVersionDto;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalResponses {
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> ok(WebRequest webRequest, ResourceVersionDto version,
+                                    Supplier<T> body) {
+        long lastModified = version.lastModified() == null
+                ? -1
+                : version.lastModified().toEpochMilli();
+        if (webRequest.checkNotModified(version.eTag(), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CACHE_CONTROL)
+                    .eTag(version.eTag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .eTag(version.eTag())
+                .lastModified(lastModified)
+                .body(body.get());
+    }
+}
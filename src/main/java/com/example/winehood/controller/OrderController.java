@@ -1,22 +1,33 @@
 package com.example.winehood.controller;
 
+import com.example.winehood.dto.order.BulkUpdateOrderStatusRequestDto;
 import com.example.winehood.dto.order.CreateOrderRequestDto;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderExportFormat;
+import com.example.winehood.dto.order.OrderExportParametersDto;
+import com.example.winehood.dto.order.OrderStatusUpdateResultDto;
 import com.example.winehood.dto.order.UpdateOrderRequestDto;
 import com.example.winehood.dto.orderitem.OrderItemDto;
 import com.example.winehood.model.User;
+import com.example.winehood.service.order.OrderExportService;
 import com.example.winehood.service.order.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -25,9 +36,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,15 +50,22 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class OrderController {
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Submit current order",
-            description = "Submitting current creating order")
+            description = "Submitting current creating order, a repeated request with"
+                    + " the same Idempotency-Key returns the originally created order")
     @PreAuthorize("hasRole('USER')")
     public OrderDto submitOrder(@AuthenticationPrincipal User user,
+                                @RequestHeader(name = "Idempotency-Key", required = false)
+                                @Size(max = 255) String idempotencyKey,
                                 @RequestBody @Valid CreateOrderRequestDto requestDto) {
-        return orderService.createOrder(user.getId(), requestDto);
+        if (idempotencyKey == null) {
+            return orderService.createOrder(user.getId(), requestDto);
+        }
+        return orderService.createOrder(user.getId(), requestDto, idempotencyKey);
     }
 
     @GetMapping
@@ -62,6 +83,39 @@ public class OrderController {
         return orderService.getOrders(user.getId(), pageable);
     }
 
+    @GetMapping(params = "mode=slice")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get a slice of user orders",
+            description = "Getting user orders page by page without counting them")
+    @PreAuthorize("hasRole('USER')")
+    public Slice<OrderDto> getOrderSlice(@AuthenticationPrincipal User user,
+                                         @ParameterObject
+                                         @PageableDefault(
+                                                 size = 5,
+                                                 sort = "userId",
+                                                 direction = Sort.Direction.ASC)
+                                         Pageable pageable) {
+        return orderService.getOrderSlice(user.getId(), pageable);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export orders",
+            description = "Streaming orders with their items placed within the date range"
+                    + " as NDJSON or CSV, optionally filtered by status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Valid OrderExportParametersDto parameters,
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(outputStream -> orderExportService.export(parameters, format,
+                        outputStream));
+    }
+
     @PutMapping("/{orderId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Update order status",
@@ -72,6 +126,17 @@ public class OrderController {
         return orderService.updateOrderStatus(orderId, requestDto);
     }
 
+    @PutMapping("/status")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Update status of several orders",
+            description = "Moving orders from the expected status to a new one in a single"
+                    + " statement, reporting the outcome for every order")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<OrderStatusUpdateResultDto> updateOrderStatuses(
+            @RequestBody @Valid BulkUpdateOrderStatusRequestDto requestDto) {
+        return orderService.updateOrderStatuses(requestDto);
+    }
+
     @GetMapping("/{orderId}/items")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get items from order",
@@ -87,6 +152,21 @@ public class OrderController {
         return orderService.getOrderItemsByOrderId(orderId, pageable);
     }
 
+    @GetMapping(value = "/{orderId}/items", params = "mode=slice")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get a slice of items from order",
+            description = "Getting items from order by orderId page by page without counting them")
+    @PreAuthorize("hasRole('USER')")
+    public Slice<OrderItemDto> getOrderItemSliceByOrderId(@PathVariable @Positive Long orderId,
+                                                          @ParameterObject
+                                                          @PageableDefault(
+                                                                  size = 5,
+                                                                  sort = "wineId",
+                                                                  direction = Sort.Direction.ASC)
+                                                          Pageable pageable) {
+        return orderService.getOrderItemSliceByOrderId(orderId, pageable);
+    }
+
     @GetMapping("/{orderId}/items/{orderItemId}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get order items",
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,26 +40,28 @@ public class RegionController {
     private final WineService wineService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all regions",
             description = "Getting a page of all available regions")
     @PreAuthorize("hasRole('USER')")
-    public Page<RegionDto> getAll(@ParameterObject
-                                  @PageableDefault(
-                                          size = 5,
-                                          sort = "country",
-                                          direction = Sort.Direction.ASC)
-                                  Pageable pageable) {
-        return regionService.findAll(pageable);
+    public ResponseEntity<Page<RegionDto>> getAll(@ParameterObject
+                                                  @PageableDefault(
+                                                          size = 5,
+                                                          sort = "country",
+                                                          direction = Sort.Direction.ASC)
+                                                  Pageable pageable,
+                                                  WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, regionService.findCollectionVersion(),
+                () -> regionService.findAll(pageable));
     }
 
     @GetMapping("/{regionId}")
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get a region by id",
             description = "Getting a region by id if available")
     @PreAuthorize("hasRole('USER')")
-    public RegionDto getRegionById(@PathVariable @Positive Long regionId) {
-        return regionService.findById(regionId);
+    public ResponseEntity<RegionDto> getRegionById(@PathVariable @Positive Long regionId,
+                                                   WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, regionService.findVersionById(regionId),
+                () -> regionService.findById(regionId));
     }
 
     @GetMapping("/{regionId}/wines")
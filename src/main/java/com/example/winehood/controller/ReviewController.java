@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -55,4 +56,18 @@ public class ReviewController {
                                                  Pageable pageable) {
         return reviewService.findAllReviewsByWineId(wineId, pageable);
     }
+
+    @GetMapping(params = "mode=slice")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get a slice of reviews",
+            description = "Getting reviews by wine id page by page without counting them")
+    @PreAuthorize("hasRole('USER')")
+    public Slice<ReviewDto> getReviewSliceByWineId(@RequestParam(name = "wineId") Long wineId,
+                                                   @ParameterObject @PageableDefault(
+                                                           size = 5,
+                                                           sort = "rating",
+                                                           direction = Sort.Direction.DESC)
+                                                   Pageable pageable) {
+        return reviewService.findReviewSliceByWineId(wineId, pageable);
+    }
 }
@@ -9,7 +9,10 @@ import com.example.winehood.service.shoppingcart.ShoppingCartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -85,4 +89,15 @@ public class ShoppingCartController {
                                            @PathVariable @Valid Long cartItemId) {
         shoppingCartService.deleteWineFromShoppingCart(user, cartItemId);
     }
+
+    @DeleteMapping(value = "/items", params = "ids")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete several wines from shopping cart",
+            description = "Delete the given cart items from shopping cart if available")
+    @PreAuthorize("hasRole('USER')")
+    public void deleteWinesFromShoppingCart(@AuthenticationPrincipal User user,
+                                            @RequestParam("ids") @NotEmpty @Size(max = 100)
+                                            List<@Positive Long> cartItemIds) {
+        shoppingCartService.deleteWinesFromShoppingCart(user, cartItemIds);
+    }
 }
@@ -1,13 +1,25 @@
 package com.example.winehood.controller;
 
 import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineCursorPageDto;
 import com.example.winehood.dto.wine.WineDto;
+import com.example.winehood.dto.wine.WineImportFormat;
+import com.example.winehood.dto.wine.WineImportResultDto;
+import com.example.winehood.dto.wine.WineSearchHitDto;
 import com.example.winehood.dto.wine.WineSearchParametersDto;
+import com.example.winehood.dto.wine.WineSuggestionsDto;
+import com.example.winehood.service.search.WineSuggester;
+import com.example.winehood.service.wine.WineImportService;
 import com.example.winehood.service.wine.WineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -15,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,8 +37,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,28 +49,42 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class WineController {
     private final WineService wineService;
+    private final WineImportService wineImportService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all wines",
             description = "Getting a list of all available wines")
     @PreAuthorize("hasRole('USER')")
-    public Page<WineDto> getAll(@ParameterObject
-                                @PageableDefault(
-                                        size = 5,
-                                        sort = "name",
-                                        direction = Sort.Direction.ASC)
-                                Pageable pageable) {
-        return wineService.findAll(pageable);
+    public ResponseEntity<Page<WineDto>> getAll(@ParameterObject
+                                                @PageableDefault(
+                                                        size = 5,
+                                                        sort = "name",
+                                                        direction = Sort.Direction.ASC)
+                                                Pageable pageable,
+                                                WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, wineService.findCollectionVersion(),
+                () -> wineService.findAll(pageable));
     }
 
-    @GetMapping("/{wineId}")
+    @GetMapping(params = "mode=cursor")
     @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Scroll all wines",
+            description = "Getting wines ordered by name, page by page, with a continuation cursor")
+    @PreAuthorize("hasRole('USER')")
+    public WineCursorPageDto scrollAll(@RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "5")
+                                       @Positive @Max(100) int size) {
+        return wineService.findAll(cursor, size);
+    }
+
+    @GetMapping("/{wineId}")
     @Operation(summary = "Get a wine by id",
             description = "Getting a wine by id if available")
     @PreAuthorize("hasRole('USER')")
-    public WineDto getWineById(@PathVariable @Positive Long wineId) {
-        return wineService.findById(wineId);
+    public ResponseEntity<WineDto> getWineById(@PathVariable @Positive Long wineId,
+                                               WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, wineService.findVersionById(wineId),
+                () -> wineService.findById(wineId));
     }
 
     @GetMapping("/search")
@@ -73,6 +102,41 @@ public class WineController {
         return wineService.searchByParameters(searchParameters, pageable);
     }
 
+    @GetMapping(value = "/search", params = {"q", "!mode"})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Search wines by text",
+            description = "Getting wines ranked by relevance to a free-text query with "
+                    + "prefix and typo-tolerant matching")
+    @PreAuthorize("hasRole('USER')")
+    public List<WineSearchHitDto> searchWinesByText(@RequestParam("q") String query,
+                                                    @RequestParam(defaultValue = "10")
+                                                    @Positive @Max(100) int limit) {
+        return wineService.searchByText(query, limit);
+    }
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Suggest wine names, grape varieties and regions",
+            description = "Getting the most common completions for a typed prefix")
+    @PreAuthorize("hasRole('USER')")
+    public WineSuggestionsDto suggest(@RequestParam @NotBlank String prefix,
+                                      @RequestParam(defaultValue = "5")
+                                      @Positive @Max(WineSuggester.MAXIMUM_LIMIT) int limit) {
+        return wineService.suggest(prefix, limit);
+    }
+
+    @GetMapping(value = "/search", params = "mode=cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Scroll wines by parameters",
+            description = "Getting wines according to the parameters with a continuation cursor")
+    @PreAuthorize("hasRole('USER')")
+    public WineCursorPageDto scrollSearchWines(WineSearchParametersDto searchParameters,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "5")
+                                               @Positive @Max(100) int size) {
+        return wineService.searchByParameters(searchParameters, cursor, size);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Create a new wine",
@@ -82,6 +146,19 @@ public class WineController {
         return wineService.save(requestDto);
     }
 
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Import wines",
+            description = "Creating or updating wines matched by name and region from a CSV"
+                    + " or JSON stream in separately committed batches, invalid rows and"
+                    + " failed batches are skipped and reported")
+    @PreAuthorize("hasRole('ADMIN')")
+    public WineImportResultDto importWines(
+            @RequestParam(defaultValue = "JSON") WineImportFormat format,
+            InputStream inputStream) throws IOException {
+        return wineImportService.importWines(inputStream, format);
+    }
+
     @PutMapping("/{wineId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Update a wine by id",
@@ -0,0 +1,78 @@
+package com.example.winehood.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@ConditionalOnProperty(name = {
+        ReplicaDataSourceConfig.FIRST_REPLICA_URL,
+        "winehood.datasource.read-your-writes.enabled"})
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String PIN_COOKIE = "winehood-primary-until";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private final Duration window;
+
+    public ReadYourWritesFilter(
+            @Value("${winehood.datasource.read-your-writes.window}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        Instant now = Instant.now();
+        if (READ_METHODS.contains(request.getMethod())) {
+            if (isPinned(request, now)) {
+                ReadYourWritesContext.pinToPrimary();
+            }
+        } else {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie
+                    .from(PIN_COOKIE, String.valueOf(now.plus(window).toEpochMilli()))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private boolean isPinned(HttpServletRequest request, Instant now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        return Arrays.stream(cookies)
+                .filter(cookie -> PIN_COOKIE.equals(cookie.getName()))
+                .anyMatch(cookie -> isBefore(now, cookie.getValue()));
+    }
+
+    private boolean isBefore(Instant now, String pinnedUntil) {
+        try {
+            return now.toEpochMilli() < Long.parseLong(pinnedUntil);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
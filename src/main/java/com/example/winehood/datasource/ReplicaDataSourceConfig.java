@@ -0,0 +1,67 @@
+package com.example.winehood.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(name = ReplicaDataSourceConfig.FIRST_REPLICA_URL)
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+    static final String FIRST_REPLICA_URL = "winehood.datasource.replicas[0].url";
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties,
+            MeterRegistry meterRegistry) {
+        HikariDataSource primary = createPool(PRIMARY_POOL_NAME,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(),
+                false,
+                meterRegistry);
+        List<ReplicaDataSourceProperties.Replica> replicaList = replicaProperties.replicas();
+        List<HikariDataSource> replicas = IntStream.range(0, replicaList.size())
+                .mapToObj(index -> createPool(
+                        REPLICA_POOL_NAME_PREFIX + index,
+                        replicaList.get(index).url(),
+                        replicaList.get(index).username(),
+                        replicaList.get(index).password(),
+                        true,
+                        meterRegistry))
+                .toList();
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createPool(String poolName, String url, String username,
+                                        String password, boolean readOnly,
+                                        MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(readOnly);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
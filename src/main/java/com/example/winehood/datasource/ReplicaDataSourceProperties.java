@@ -0,0 +1,10 @@
+package com.example.winehood.datasource;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("winehood.datasource")
+public record ReplicaDataSourceProperties(List<Replica> replicas) {
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.winehood.dto.order;
+
+import com.example.winehood.model.Order;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkUpdateOrderStatusRequestDto(
+        @NotEmpty(message = "Order ids are required")
+        @Size(max = 1000)
+        List<@NotNull @Positive Long> orderIds,
+        @NotNull(message = "Expected status is required")
+        Order.Status expectedStatus,
+        @NotNull(message = "Status is required")
+        Order.Status status) {
+}
@@ -0,0 +1,16 @@
+package com.example.winehood.dto.order;
+
+import com.example.winehood.model.Order;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record OrderExportParametersDto(
+        @NotNull(message = "From date is required")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+        @NotNull(message = "To date is required")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to,
+        Order.Status status) {
+}
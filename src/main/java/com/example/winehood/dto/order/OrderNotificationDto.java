@@ -0,0 +1,12 @@
+package com.example.winehood.dto.order;
+
+import com.example.winehood.model.Order;
+import com.example.winehood.service.order.event.OrderEvent;
+
+public record OrderNotificationDto(
+        Long eventId,
+        OrderEvent.Type type,
+        Long orderId,
+        Long userId,
+        Order.Status orderStatus) {
+}
@@ -0,0 +1,14 @@
+package com.example.winehood.dto.order;
+
+import com.example.winehood.model.Order;
+
+public record OrderStatusUpdateResultDto(
+        Long orderId,
+        Outcome outcome,
+        Order.Status status) {
+    public enum Outcome {
+        UPDATED,
+        STATUS_MISMATCH,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.winehood.dto.version;
+
+import java.time.Instant;
+
+public record ResourceVersionDto(
+        String eTag,
+        Instant lastModified) {
+}
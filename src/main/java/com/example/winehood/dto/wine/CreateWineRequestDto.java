@@ -3,6 +3,7 @@ package com.example.winehood.dto.wine;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
 
 public record CreateWineRequestDto(
@@ -14,5 +15,7 @@ public record CreateWineRequestDto(
         @NotBlank(message = "Grape variety may not be blank")
         String grapeVariety,
         @NotNull(message = "Region id may not be blank")
-        Long regionId) {
+        Long regionId,
+        @PositiveOrZero
+        Integer stock) {
 }
@@ -0,0 +1,8 @@
+package com.example.winehood.dto.wine;
+
+import java.util.List;
+
+public record WineCursorPageDto(
+        List<WineDto> content,
+        String nextCursor) {
+}
@@ -12,4 +12,6 @@ public class WineDto {
     private BigDecimal price;
     private String grapeVariety;
     private Long regionId;
+    private Long ratingCount;
+    private Double averageRating;
 }
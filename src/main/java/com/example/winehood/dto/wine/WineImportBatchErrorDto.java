@@ -0,0 +1,7 @@
+package com.example.winehood.dto.wine;
+
+public record WineImportBatchErrorDto(
+        long firstRow,
+        long lastRow,
+        String message) {
+}
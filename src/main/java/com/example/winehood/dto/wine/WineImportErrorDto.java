@@ -0,0 +1,6 @@
+package com.example.winehood.dto.wine;
+
+public record WineImportErrorDto(
+        long row,
+        String message) {
+}
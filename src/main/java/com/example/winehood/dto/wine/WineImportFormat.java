@@ -0,0 +1,6 @@
+package com.example.winehood.dto.wine;
+
+public enum WineImportFormat {
+    CSV,
+    JSON
+}
@@ -0,0 +1,11 @@
+package com.example.winehood.dto.wine;
+
+import java.util.List;
+
+public record WineImportResultDto(
+        long rowsRead,
+        long imported,
+        long failed,
+        List<WineImportErrorDto> errors,
+        List<WineImportBatchErrorDto> failedBatches) {
+}
@@ -0,0 +1,11 @@
+package com.example.winehood.dto.wine;
+
+public record WineSearchHitDto(
+        Long id,
+        String name,
+        String grapeVariety,
+        Long regionId,
+        String regionName,
+        String country,
+        double score) {
+}
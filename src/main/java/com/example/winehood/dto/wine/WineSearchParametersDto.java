@@ -1,7 +1,12 @@
 package com.example.winehood.dto.wine;
 
+import java.math.BigDecimal;
+
 public record WineSearchParametersDto(
         String[] names,
         String[] grapeVarieties,
-        String[] regionNames) {
+        String[] regionNames,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Double minRating) {
 }
@@ -0,0 +1,9 @@
+package com.example.winehood.dto.wine;
+
+import java.util.List;
+
+public record WineSuggestionsDto(
+        List<String> names,
+        List<String> grapeVarieties,
+        List<String> regionNames) {
+}
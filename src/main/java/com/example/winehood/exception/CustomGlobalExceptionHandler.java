@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -71,6 +72,22 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<Object> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex
+    ) {
+        return getObjectResponseEntity(
+                "The resource was modified concurrently, please retry the request",
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    protected ResponseEntity<Object> handleConflictException(
+            ConflictException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
     private ResponseEntity<Object> getObjectResponseEntity(
             String message, HttpStatus status) {
         Map<String, Object> body = new LinkedHashMap<>();
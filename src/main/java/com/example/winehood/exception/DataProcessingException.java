@@ -4,4 +4,8 @@ public class DataProcessingException extends RuntimeException {
     public DataProcessingException(String message) {
         super(message);
     }
+
+    public DataProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
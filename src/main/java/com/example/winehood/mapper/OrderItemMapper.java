@@ -4,6 +4,7 @@ import com.example.winehood.config.MapperConfig;
 import com.example.winehood.dto.orderitem.OrderItemDto;
 import com.example.winehood.model.CartItem;
 import com.example.winehood.model.OrderItem;
+import com.example.winehood.repository.orderitem.OrderItemView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -12,6 +13,8 @@ public interface OrderItemMapper {
     @Mapping(source = "wine.id", target = "wineId")
     OrderItemDto toDto(OrderItem orderItem);
 
+    OrderItemDto toDtoFromView(OrderItemView orderItemView);
+
     @Mapping(source = "wine.price", target = "price")
     @Mapping(target = "id", ignore = true)
     OrderItem toEntityFromCartItem(CartItem cartItem);
@@ -2,7 +2,9 @@ package com.example.winehood.mapper;
 
 import com.example.winehood.config.MapperConfig;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.orderitem.OrderItemDto;
 import com.example.winehood.model.Order;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -10,4 +12,8 @@ import org.mapstruct.Mapping;
 public interface OrderMapper {
     @Mapping(source = "user.id", target = "userId")
     OrderDto toDto(Order order);
+
+    @Mapping(source = "order.user.id", target = "userId")
+    @Mapping(source = "orderItems", target = "orderItems")
+    OrderDto toDto(Order order, Set<OrderItemDto> orderItems);
 }
@@ -4,6 +4,7 @@ import com.example.winehood.config.MapperConfig;
 import com.example.winehood.dto.region.CreateRegionRequestDto;
 import com.example.winehood.dto.region.RegionDto;
 import com.example.winehood.model.Region;
+import com.example.winehood.repository.region.RegionView;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 
@@ -11,6 +12,8 @@ import org.mapstruct.MappingTarget;
 public interface RegionMapper {
     RegionDto toDto(Region region);
 
+    RegionDto toDto(RegionView regionView);
+
     Region toEntity(CreateRegionRequestDto requestDto);
 
     void updateEntityFromDto(
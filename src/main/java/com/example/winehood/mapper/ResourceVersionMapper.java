@@ -0,0 +1,22 @@
+package com.example.winehood.mapper;
+
+import com.example.winehood.config.MapperConfig;
+import com.example.winehood.dto.version.ResourceVersionDto;
+import com.example.winehood.repository.VersionView;
+import com.example.winehood.repository.catalog.CatalogVersionView;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapperConfig.class)
+public interface ResourceVersionMapper {
+    default ResourceVersionDto toDto(Long id, VersionView versionView) {
+        return new ResourceVersionDto(
+                id + "-" + versionView.getVersion(),
+                versionView.getUpdatedAt());
+    }
+
+    default ResourceVersionDto toDto(CatalogVersionView versionView) {
+        return new ResourceVersionDto(
+                versionView.name() + "-" + versionView.version(),
+                versionView.updatedAt());
+    }
+}
@@ -4,6 +4,7 @@ import com.example.winehood.config.MapperConfig;
 import com.example.winehood.dto.review.CreateReviewRequestDto;
 import com.example.winehood.dto.review.ReviewDto;
 import com.example.winehood.model.Review;
+import com.example.winehood.repository.review.ReviewView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -14,4 +15,6 @@ public interface ReviewMapper {
     @Mapping(source = "wine.id", target = "wineId")
     @Mapping(source = "user.id", target = "userId")
     ReviewDto toDto(Review review);
+
+    ReviewDto toDto(ReviewView reviewView);
 }
@@ -5,16 +5,22 @@ import com.example.winehood.dto.wine.CreateWineRequestDto;
 import com.example.winehood.dto.wine.WineDto;
 import com.example.winehood.dto.wine.WineDtoWithoutRegion;
 import com.example.winehood.model.Wine;
+import com.example.winehood.repository.wine.WineView;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 @Mapper(config = MapperConfig.class)
 public interface WineMapper {
     WineDto toDto(Wine wine);
 
+    WineDto toDto(WineView wineView);
+
     Wine toEntity(CreateWineRequestDto requestDto);
 
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(CreateWineRequestDto requestDto, @MappingTarget Wine wine);
 
     WineDtoWithoutRegion toDtoWithoutRegions(Wine wine);
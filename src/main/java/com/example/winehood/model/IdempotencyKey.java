@@ -0,0 +1,38 @@
+package com.example.winehood.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+public class IdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+    @Column(nullable = false)
+    private String requestHash;
+    @Column(columnDefinition = "mediumtext")
+    @ToString.Exclude
+    private String response;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
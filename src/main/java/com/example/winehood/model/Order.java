@@ -13,8 +13,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
@@ -33,7 +35,13 @@ import org.hibernate.annotations.SQLRestriction;
 @Accessors(chain = true)
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id_generator")
+    @TableGenerator(name = "orders_id_generator",
+            table = "id_generators",
+            pkColumnName = "name",
+            valueColumnName = "next_value",
+            pkColumnValue = "orders",
+            allocationSize = 50)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
@@ -65,6 +73,22 @@ public class Order {
         COMPLETED,
         CANCELED,
         DECLINED,
-        REFUNDED
+        REFUNDED;
+
+        public Set<Status> getNextStatuses() {
+            return switch (this) {
+                case PENDING -> EnumSet.of(AWAITING_PAYMENT, CONFIRMED, CANCELED, DECLINED);
+                case AWAITING_PAYMENT -> EnumSet.of(CONFIRMED, CANCELED, DECLINED);
+                case CONFIRMED -> EnumSet.of(SHIPPING, CANCELED);
+                case SHIPPING -> EnumSet.of(DELIVERED);
+                case DELIVERED -> EnumSet.of(COMPLETED, REFUNDED);
+                case COMPLETED -> EnumSet.of(REFUNDED);
+                case CANCELED, DECLINED, REFUNDED -> EnumSet.noneOf(Status.class);
+            };
+        }
+
+        public boolean canTransitionTo(Status status) {
+            return getNextStatuses().contains(status);
+        }
     }
 }
@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,10 +17,12 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "regions")
-@SQLDelete(sql = "UPDATE regions SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE regions SET is_deleted = true, version = version + 1"
+        + " WHERE id = ? AND version = ?")
 @SQLRestriction(value = "is_deleted=false")
 @Getter
 @Setter
@@ -34,6 +38,10 @@ public class Region {
     private String country;
     @OneToMany(mappedBy = "region", fetch = FetchType.LAZY)
     private List<Wine> wines;
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
     @Column(nullable = false)
     private boolean isDeleted;
 }
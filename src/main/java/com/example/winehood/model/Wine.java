@@ -9,19 +9,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "wines")
-@SQLDelete(sql = "UPDATE wines SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE wines SET is_deleted = true, version = version + 1"
+        + " WHERE id = ? AND version = ?")
 @SQLRestriction(value = "is_deleted=false")
+@DynamicUpdate
 @Getter
 @Setter
 @ToString
@@ -38,5 +44,15 @@ public class Wine {
     @OneToMany(mappedBy = "wine", fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Review> reviews;
     @Column(nullable = false)
+    private long ratingCount;
+    @Column(nullable = false)
+    private double ratingSum;
+    private Double averageRating;
+    private Integer stock;
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
+    @Column(nullable = false)
     private boolean isDeleted;
 }
@@ -0,0 +1,9 @@
+package com.example.winehood.repository;
+
+import java.time.Instant;
+
+public interface VersionView {
+    Long getVersion();
+
+    Instant getUpdatedAt();
+}
@@ -1,12 +1,24 @@
 package com.example.winehood.repository.cartitem;
 
 import com.example.winehood.model.CartItem;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long>,
         JpaSpecificationExecutor<CartItem> {
     List<CartItem> findListByShoppingCartId(Long shoppingCartId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from CartItem ci where ci.shoppingCart.id = :shoppingCartId")
+    int deleteAllByShoppingCartId(Long shoppingCartId);
+
+    @Modifying
+    @Query("delete from CartItem ci where ci.shoppingCart.id = :shoppingCartId"
+            + " and ci.id in :cartItemIds")
+    int deleteAllByShoppingCartIdAndIdIn(Long shoppingCartId, Collection<Long> cartItemIds);
 }
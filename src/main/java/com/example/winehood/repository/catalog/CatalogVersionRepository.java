@@ -0,0 +1,28 @@
+package com.example.winehood.repository.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepository {
+    public static final String WINES = "wines";
+    public static final String REGIONS = "regions";
+    private static final String BUMP = "UPDATE catalog_versions"
+            + " SET version = version + 1, updated_at = CURRENT_TIMESTAMP(6) WHERE name = ?";
+    private static final String SELECT =
+            "SELECT name, version, updated_at FROM catalog_versions WHERE name = ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    public void bump(String name) {
+        jdbcTemplate.update(BUMP, name);
+    }
+
+    public CatalogVersionView findByName(String name) {
+        return jdbcTemplate.queryForObject(SELECT, (resultSet, rowNumber) ->
+                new CatalogVersionView(resultSet.getString("name"),
+                        resultSet.getLong("version"),
+                        resultSet.getTimestamp("updated_at").toInstant()), name);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.winehood.repository.catalog;
+
+import java.time.Instant;
+
+public record CatalogVersionView(String name, long version, Instant updatedAt) {
+}
@@ -0,0 +1,30 @@
+package com.example.winehood.repository.idempotency;
+
+import com.example.winehood.model.IdempotencyKey;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByUserIdAndKey(Long userId, String key);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("from IdempotencyKey ik where ik.userId = :userId and ik.key = :key")
+    Optional<IdempotencyKey> findLockedByUserIdAndKey(Long userId, String key);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys"
+            + " (user_id, idempotency_key, request_hash, created_at, expires_at)"
+            + " VALUES (:userId, :key, :requestHash, :createdAt, :expiresAt)",
+            nativeQuery = true)
+    int insertIfAbsent(Long userId, String key, String requestHash, LocalDateTime createdAt,
+                       LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from IdempotencyKey ik where ik.expiresAt < :now")
+    int deleteAllExpired(LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.example.winehood.repository.order;
+
+import com.example.winehood.model.Order;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface OrderExportView {
+    Long getOrderId();
+
+    Long getUserId();
+
+    LocalDateTime getOrderDate();
+
+    Order.Status getStatus();
+
+    BigDecimal getTotal();
+
+    String getShippingAddress();
+
+    Long getOrderItemId();
+
+    Long getWineId();
+
+    Integer getQuantity();
+}
@@ -2,12 +2,47 @@ package com.example.winehood.repository.order;
 
 import com.example.winehood.model.Order;
 import com.example.winehood.model.Region;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface OrderRepository extends JpaRepository<Order, Long>,
         JpaSpecificationExecutor<Region> {
     Page<Order> findAllByUserId(Long userId, Pageable pageable);
+
+    Slice<Order> findSliceByUserId(Long userId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+            value = "" + Integer.MIN_VALUE))
+    @Query("select o.id as orderId, o.user.id as userId, o.orderDate as orderDate,"
+            + " o.status as status, o.total as total, o.shippingAddress as shippingAddress,"
+            + " oi.id as orderItemId, oi.wine.id as wineId, oi.quantity as quantity"
+            + " from Order o left join o.orderItems oi"
+            + " where o.orderDate >= :from and o.orderDate < :to"
+            + " and (:status is null or o.status = :status)"
+            + " order by o.orderDate, o.id")
+    Stream<OrderExportView> streamAllForExport(LocalDateTime from, LocalDateTime to,
+                                               Order.Status status);
+
+    @Query(value = "SELECT id, user_id AS userId, status FROM orders"
+            + " WHERE id IN (:orderIds) AND is_deleted = false FOR UPDATE",
+            nativeQuery = true)
+    List<OrderStatusView> findStatusesForUpdate(Collection<Long> orderIds);
+
+    @Modifying
+    @Query("update Order o set o.status = :status where o.id in :orderIds"
+            + " and o.status = :expectedStatus and o.isDeleted = false")
+    int updateStatus(Collection<Long> orderIds, Order.Status expectedStatus,
+                     Order.Status status);
 }
@@ -0,0 +1,11 @@
+package com.example.winehood.repository.order;
+
+import com.example.winehood.model.Order;
+
+public interface OrderStatusView {
+    Long getId();
+
+    Long getUserId();
+
+    Order.Status getStatus();
+}
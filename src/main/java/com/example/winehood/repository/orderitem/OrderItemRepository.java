@@ -2,12 +2,22 @@ package com.example.winehood.repository.orderitem;
 
 import com.example.winehood.model.OrderItem;
 import com.example.winehood.model.Region;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long>,
         JpaSpecificationExecutor<Region> {
     Page<OrderItem> findAllByOrderId(Long orderId, Pageable pageable);
+
+    Slice<OrderItem> findSliceByOrderId(Long orderId, Pageable pageable);
+
+    @Query("select oi.id as id, oi.order.id as orderId, oi.wine.id as wineId,"
+            + " oi.quantity as quantity from OrderItem oi where oi.order.id in :orderIds")
+    List<OrderItemView> findAllViewsByOrderIdIn(Collection<Long> orderIds);
 }
@@ -0,0 +1,11 @@
+package com.example.winehood.repository.orderitem;
+
+public interface OrderItemView {
+    Long getId();
+
+    Long getOrderId();
+
+    Long getWineId();
+
+    Integer getQuantity();
+}
@@ -1,9 +1,25 @@
 package com.example.winehood.repository.region;
 
 import com.example.winehood.model.Region;
+import com.example.winehood.repository.VersionView;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface RegionRepository extends JpaRepository<Region, Long>,
         JpaSpecificationExecutor<Region> {
+    @Query(value = "select r.id as id, r.name as name, r.country as country from Region r",
+            countQuery = "select count(r) from Region r")
+    Page<RegionView> findAllViews(Pageable pageable);
+
+    @Query("select r.version as version, r.updatedAt as updatedAt from Region r"
+            + " where r.id = :regionId")
+    Optional<VersionView> findVersionById(Long regionId);
+
+    @Query("select r.id from Region r")
+    Set<Long> findAllIds();
 }
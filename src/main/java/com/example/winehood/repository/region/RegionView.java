@@ -0,0 +1,9 @@
+package com.example.winehood.repository.region;
+
+public interface RegionView {
+    Long getId();
+
+    String getName();
+
+    String getCountry();
+}
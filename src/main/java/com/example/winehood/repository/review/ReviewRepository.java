@@ -3,8 +3,21 @@ package com.example.winehood.repository.review;
 import com.example.winehood.model.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findAllByWineId(Long wineId, Pageable pageable);
+
+    @Query(value = "select r.id as id, r.wine.id as wineId, r.user.id as userId,"
+            + " r.rating as rating, r.text as text, r.timestamp as timestamp"
+            + " from Review r where r.wine.id = :wineId",
+            countQuery = "select count(r) from Review r where r.wine.id = :wineId")
+    Page<ReviewView> findAllViewsByWineId(Long wineId, Pageable pageable);
+
+    @Query("select r.id as id, r.wine.id as wineId, r.user.id as userId,"
+            + " r.rating as rating, r.text as text, r.timestamp as timestamp"
+            + " from Review r where r.wine.id = :wineId")
+    Slice<ReviewView> findViewSliceByWineId(Long wineId, Pageable pageable);
 }
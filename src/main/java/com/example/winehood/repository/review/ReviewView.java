@@ -0,0 +1,17 @@
+package com.example.winehood.repository.review;
+
+import java.time.LocalDateTime;
+
+public interface ReviewView {
+    Long getId();
+
+    Long getWineId();
+
+    Long getUserId();
+
+    Double getRating();
+
+    String getText();
+
+    LocalDateTime getTimestamp();
+}
@@ -1,11 +1,18 @@
 package com.example.winehood.repository.shoppingcart;
 
 import com.example.winehood.model.ShoppingCart;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long>,
         JpaSpecificationExecutor<ShoppingCart> {
     Optional<ShoppingCart> findByUserId(Long userId);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("from ShoppingCart sc where sc.user.id = :userId")
+    Optional<ShoppingCart> findForUpdateByUserId(Long userId);
 }
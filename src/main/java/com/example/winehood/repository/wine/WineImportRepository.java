@@ -0,0 +1,41 @@
+package com.example.winehood.repository.wine;
+
+import com.example.winehood.dto.wine.CreateWineRequestDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WineImportRepository {
+    private static final String UPSERT = "INSERT INTO wines"
+            + " (name, price, grape_variety, region_id, stock) VALUES (?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE price = VALUES(price),"
+            + " grape_variety = VALUES(grape_variety), stock = COALESCE(VALUES(stock), stock),"
+            + " version = version + 1, updated_at = CURRENT_TIMESTAMP(6)";
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(List<CreateWineRequestDto> wines) {
+        jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                CreateWineRequestDto wine = wines.get(index);
+                statement.setString(1, wine.name());
+                statement.setBigDecimal(2, wine.price());
+                statement.setString(3, wine.grapeVariety());
+                statement.setLong(4, wine.regionId());
+                statement.setObject(5, wine.stock(), Types.INTEGER);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return wines.size();
+            }
+        });
+    }
+}
@@ -1,14 +1,60 @@
 package com.example.winehood.repository.wine;
 
 import com.example.winehood.model.Wine;
+import com.example.winehood.repository.VersionView;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface WineRepository extends JpaRepository<Wine, Long>,
         JpaSpecificationExecutor<Wine> {
+    @Override
+    @EntityGraph(attributePaths = "region")
+    Page<Wine> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "region")
+    Page<Wine> findAll(Specification<Wine> specification, Pageable pageable);
+
+    @Query(value = "select w.id as id, w.name as name, w.price as price,"
+            + " w.grapeVariety as grapeVariety, w.region.id as regionId,"
+            + " w.ratingCount as ratingCount, w.averageRating as averageRating from Wine w",
+            countQuery = "select count(w) from Wine w")
+    Page<WineView> findAllViews(Pageable pageable);
+
+    boolean existsByNameAndRegionId(String name, Long regionId);
+
+    boolean existsByNameAndRegionIdAndIdNot(String name, Long regionId, Long wineId);
+
     @Query("from Wine w left join fetch w.region r where r.id = :regionId")
     Page<Wine> findAllByRegionId(Long regionId, Pageable pageable);
+
+    @Query("from Wine w join fetch w.region")
+    List<Wine> findAllWithRegion();
+
+    @Query("from Wine w join fetch w.region r where r.id = :regionId")
+    List<Wine> findAllWithRegionByRegionId(Long regionId);
+
+    @Query("from Wine w join fetch w.region where w.id = :wineId")
+    Optional<Wine> findWithRegionById(Long wineId);
+
+    @Query("select w.version as version, w.updatedAt as updatedAt from Wine w"
+            + " where w.id = :wineId")
+    Optional<VersionView> findVersionById(Long wineId);
+
+    @Modifying
+    @Query("update Wine w"
+            + " set w.averageRating = (w.ratingSum + :rating) / (w.ratingCount + 1),"
+            + " w.ratingCount = w.ratingCount + 1,"
+            + " w.ratingSum = w.ratingSum + :rating,"
+            + " w.version = w.version + 1,"
+            + " w.updatedAt = current_timestamp where w.id = :wineId")
+    int addRating(Long wineId, double rating);
 }
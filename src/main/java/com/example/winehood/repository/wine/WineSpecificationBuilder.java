@@ -28,6 +28,18 @@ public class WineSpecificationBuilder implements SpecificationBuilder<Wine> {
             spec = spec.and(providerManager.getSpecificationProvider("region")
                     .getSpecification(paramsDto.regionNames()));
         }
+        if (paramsDto.minPrice() != null) {
+            spec = spec.and(providerManager.getSpecificationProvider("minPrice")
+                    .getSpecification(new String[]{paramsDto.minPrice().toPlainString()}));
+        }
+        if (paramsDto.maxPrice() != null) {
+            spec = spec.and(providerManager.getSpecificationProvider("maxPrice")
+                    .getSpecification(new String[]{paramsDto.maxPrice().toPlainString()}));
+        }
+        if (paramsDto.minRating() != null) {
+            spec = spec.and(providerManager.getSpecificationProvider("minRating")
+                    .getSpecification(new String[]{paramsDto.minRating().toString()}));
+        }
         return spec;
     }
 }
@@ -0,0 +1,46 @@
+package com.example.winehood.repository.wine;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WineStockRepository {
+    private static final String RESERVE = "UPDATE wines SET stock = stock - ?"
+            + " WHERE id = ? AND is_deleted = false AND (stock IS NULL OR stock >= ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> reserve(Map<Long, Integer> quantitiesByWineId) {
+        List<Map.Entry<Long, Integer>> reservations = quantitiesByWineId.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        int[] updateCounts = jdbcTemplate.batchUpdate(RESERVE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                Map.Entry<Long, Integer> reservation = reservations.get(index);
+                statement.setInt(1, reservation.getValue());
+                statement.setLong(2, reservation.getKey());
+                statement.setInt(3, reservation.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+        List<Long> outOfStock = new ArrayList<>();
+        for (int index = 0; index < updateCounts.length; index++) {
+            if (updateCounts[index] == 0) {
+                outOfStock.add(reservations.get(index).getKey());
+            }
+        }
+        return outOfStock;
+    }
+}
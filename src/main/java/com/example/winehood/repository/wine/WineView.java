@@ -0,0 +1,19 @@
+package com.example.winehood.repository.wine;
+
+import java.math.BigDecimal;
+
+public interface WineView {
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    String getGrapeVariety();
+
+    Long getRegionId();
+
+    Long getRatingCount();
+
+    Double getAverageRating();
+}
@@ -0,0 +1,23 @@
+package com.example.winehood.repository.wine.spec;
+
+import com.example.winehood.model.Wine;
+import com.example.winehood.repository.SpecificationProvider;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MaxPriceSpecificationProvider implements SpecificationProvider<Wine> {
+    private static final String KEY = "maxPrice";
+    private static final String ATTRIBUTE = "price";
+
+    @Override
+    public String getKey() {
+        return KEY;
+    }
+
+    public Specification<Wine> getSpecification(String[] params) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(
+                root.<BigDecimal>get(ATTRIBUTE), new BigDecimal(params[0]));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.winehood.repository.wine.spec;
+
+import com.example.winehood.model.Wine;
+import com.example.winehood.repository.SpecificationProvider;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MinRatingSpecificationProvider implements SpecificationProvider<Wine> {
+    private static final String KEY = "minRating";
+    private static final String ATTRIBUTE = "averageRating";
+
+    @Override
+    public String getKey() {
+        return KEY;
+    }
+
+    public Specification<Wine> getSpecification(String[] params) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(
+                root.<Double>get(ATTRIBUTE), Double.valueOf(params[0]));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.winehood.security;
 
 import com.example.winehood.dto.user.UserLoginRequestDto;
 import com.example.winehood.dto.user.UserLoginResponseDto;
+import com.example.winehood.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,7 +21,7 @@ public class AuthService {
                         requestLogin.username(),
                         requestLogin.password()));
 
-        String token = jwtUtil.generateToken(authentication.getName());
+        String token = jwtUtil.generateToken((User) authentication.getPrincipal());
         return new UserLoginResponseDto(token);
     }
 }
@@ -1,10 +1,13 @@
 package com.example.winehood.security;
 
+import com.example.winehood.model.Role;
+import com.example.winehood.model.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,6 +25,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private static final String TOKEN_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,9 +35,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getToken(request);
 
-        if (token != null && jwtUtil.isValidToken(token)) {
-            String username = jwtUtil.getUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (token != null) {
+            TokenClaims claims = jwtUtil.verify(token);
+            UserDetails userDetails = claims.isSelfContained()
+                    && !tokenRevocationRegistry.isRevoked(claims)
+                    ? toPrincipal(claims)
+                    : userPrincipalCache.get(
+                            claims.subject(), userDetailsService::loadUserByUsername);
             Authentication auth = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -43,6 +52,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private User toPrincipal(TokenClaims claims) {
+        return new User()
+                .setId(claims.userId())
+                .setUsername(claims.subject())
+                .setRoles(claims.roles().stream()
+                        .map(roleName -> new Role().setName(Role.RoleName.valueOf(roleName)))
+                        .collect(Collectors.toSet()));
+    }
+
     private String getToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(TOKEN_PREFIX)) {
@@ -1,25 +1,43 @@
 package com.example.winehood.security;
 
+import com.example.winehood.cache.LocalCache;
+import com.example.winehood.model.User;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
+import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cglib.core.internal.Function;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
     private final SecretKey secret;
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final JwtParser parser;
+    private final long expiration;
+    private final LocalCache<String, TokenClaims> verifiedTokens;
+    @Value("${jwt.claims.enabled}")
+    private boolean claimsEnabled;
+    @Value("${jwt.claims.expiration}")
+    private long claimsExpiration;
 
-    public JwtUtil(@Value("${jwt.secret}") String secretString) {
+    public JwtUtil(@Value("${jwt.secret}") String secretString,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.verified-cache.maximum-size}") int verifiedCacheSize) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(secret)
+                .build();
+        this.expiration = expiration;
+        verifiedTokens = new LocalCache<>(verifiedCacheSize, Duration.ofMillis(expiration));
     }
 
     public String generateToken(String username) {
@@ -31,29 +49,46 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isValidToken(String token) {
-        try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secret)
-                    .build()
-                    .parseSignedClaims(token);
+    public String generateToken(User user) {
+        if (!claimsEnabled) {
+            return generateToken(user.getUsername());
+        }
+        return Jwts.builder()
+                .subject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, user.getRoles().stream()
+                        .map(role -> role.getName().name())
+                        .toList())
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + claimsExpiration))
+                .signWith(secret)
+                .compact();
+    }
 
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+    public TokenClaims verify(String token) {
+        TokenClaims cachedClaims = verifiedTokens.getIfPresent(token);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+        try {
+            TokenClaims tokenClaims = toTokenClaims(parser.parseSignedClaims(token).getPayload());
+            verifiedTokens.put(token, tokenClaims, tokenClaims.expiration());
+            return tokenClaims;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Expired or invalid JWT token");
         }
     }
 
-    public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
-    }
-
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+    private TokenClaims toTokenClaims(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Collection<?> roles = claims.get(ROLES_CLAIM, Collection.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant(),
+                userId == null ? null : userId.longValue(),
+                roles == null ? null : roles.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.toUnmodifiableSet()));
     }
 }
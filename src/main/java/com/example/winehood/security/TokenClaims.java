@@ -0,0 +1,15 @@
+package com.example.winehood.security;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record TokenClaims(
+        String subject,
+        Instant issuedAt,
+        Instant expiration,
+        Long userId,
+        Set<String> roles) {
+    public boolean isSelfContained() {
+        return userId != null && roles != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.winehood.security;
+
+import com.example.winehood.cache.LocalCache;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenRevocationRegistry {
+    private final LocalCache<Long, Instant> revokedBefore;
+
+    public TokenRevocationRegistry(
+            @Value("${jwt.claims.expiration}") long claimsExpiration,
+            @Value("${jwt.claims.revocation.maximum-size}") int maximumSize) {
+        revokedBefore = new LocalCache<>(maximumSize, Duration.ofMillis(claimsExpiration));
+    }
+
+    public void revokeIssuedBefore(Long userId, Instant instant) {
+        revokedBefore.put(userId, instant);
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Instant revocation = revokedBefore.getIfPresent(claims.userId());
+        return revocation != null
+                && (claims.issuedAt() == null || !claims.issuedAt().isAfter(revocation));
+    }
+}
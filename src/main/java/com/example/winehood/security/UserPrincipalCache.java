@@ -0,0 +1,42 @@
+package com.example.winehood.security;
+
+import com.example.winehood.cache.LocalCache;
+import com.example.winehood.service.user.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class UserPrincipalCache {
+    private static final String CACHE_NAME = "userPrincipals";
+    private final LocalCache<String, UserDetails> cache;
+
+    public UserPrincipalCache(
+            @Value("${security.principal-cache.maximum-size}") int maximumSize,
+            @Value("${security.principal-cache.ttl}") Duration timeToLive,
+            MeterRegistry meterRegistry) {
+        cache = new LocalCache<String, UserDetails>(maximumSize, timeToLive)
+                .bindTo(meterRegistry, CACHE_NAME);
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, loader);
+    }
+
+    public void evict(String username) {
+        cache.evict(username);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        event.usernames().forEach(this::evict);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.winehood.service.catalog;
+
+import com.example.winehood.repository.catalog.CatalogVersionRepository;
+import com.example.winehood.service.region.RegionChangedEvent;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionUpdater {
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWineChanged(WineChangedEvent event) {
+        catalogVersionRepository.bump(CatalogVersionRepository.WINES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWineCatalogChanged(WineCatalogChangedEvent event) {
+        catalogVersionRepository.bump(CatalogVersionRepository.WINES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRegionChanged(RegionChangedEvent event) {
+        catalogVersionRepository.bump(CatalogVersionRepository.REGIONS);
+        catalogVersionRepository.bump(CatalogVersionRepository.WINES);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.winehood.service.idempotency;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyKeyService {
+    <T> T execute(Long userId, String key, Object request, Class<T> responseType,
+                  Supplier<T> action);
+
+    void deleteExpired();
+}
@@ -0,0 +1,106 @@
+package com.example.winehood.service.idempotency;
+
+import com.example.winehood.exception.ConflictException;
+import com.example.winehood.exception.DataProcessingException;
+import com.example.winehood.model.IdempotencyKey;
+import com.example.winehood.repository.idempotency.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+@Service
+@Transactional
+public class IdempotencyKeyServiceImpl implements IdempotencyKeyService {
+    private static final String IN_PROGRESS =
+            "Request with idempotency key %s is still in progress";
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public IdempotencyKeyServiceImpl(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            @Value("${winehood.idempotency.ttl}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public <T> T execute(Long userId, String key, Object request, Class<T> responseType,
+                         Supplier<T> action) {
+        LocalDateTime now = LocalDateTime.now();
+        String requestHash = DigestUtils.md5DigestAsHex(
+                toJson(request).getBytes(StandardCharsets.UTF_8));
+        Optional<IdempotencyKey> stored = idempotencyKeyRepository.findByUserIdAndKey(userId, key);
+        if (stored.isPresent() && stored.get().getExpiresAt().isAfter(now)) {
+            return replay(stored.get(), requestHash, responseType);
+        }
+        stored.ifPresent(expired -> {
+            idempotencyKeyRepository.delete(expired);
+            idempotencyKeyRepository.flush();
+        });
+
+        boolean claimed = claim(userId, key, requestHash, now);
+        IdempotencyKey idempotencyKey = idempotencyKeyRepository
+                .findLockedByUserIdAndKey(userId, key)
+                .orElseThrow(() -> new ConflictException(IN_PROGRESS.formatted(key)));
+        if (!claimed) {
+            if (idempotencyKey.getResponse() == null) {
+                throw new ConflictException(IN_PROGRESS.formatted(key));
+            }
+            return replay(idempotencyKey, requestHash, responseType);
+        }
+        T response = action.get();
+        idempotencyKey.setResponse(toJson(response));
+        return response;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${winehood.idempotency.cleanup-interval}")
+    public void deleteExpired() {
+        idempotencyKeyRepository.deleteAllExpired(LocalDateTime.now());
+    }
+
+    private boolean claim(Long userId, String key, String requestHash, LocalDateTime now) {
+        try {
+            return idempotencyKeyRepository.insertIfAbsent(
+                    userId, key, requestHash, now, now.plus(ttl)) > 0;
+        } catch (PessimisticLockingFailureException e) {
+            throw new ConflictException(IN_PROGRESS.formatted(key), e);
+        }
+    }
+
+    private <T> T replay(IdempotencyKey idempotencyKey, String requestHash,
+                         Class<T> responseType) {
+        if (!idempotencyKey.getRequestHash().equals(requestHash)) {
+            throw new DataProcessingException("Idempotency key " + idempotencyKey.getKey()
+                    + " was already used for a different request");
+        }
+        try {
+            return objectMapper.readValue(idempotencyKey.getResponse(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new DataProcessingException(
+                    "Can't read stored response for idempotency key " + idempotencyKey.getKey(),
+                    e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new DataProcessingException("Can't serialize " + value, e);
+        }
+    }
+}
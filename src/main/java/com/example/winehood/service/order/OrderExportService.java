@@ -0,0 +1,11 @@
+package com.example.winehood.service.order;
+
+import com.example.winehood.dto.order.OrderExportFormat;
+import com.example.winehood.dto.order.OrderExportParametersDto;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface OrderExportService {
+    void export(OrderExportParametersDto parameters, OrderExportFormat format,
+                OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,112 @@
+package com.example.winehood.service.order;
+
+import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderExportFormat;
+import com.example.winehood.dto.order.OrderExportParametersDto;
+import com.example.winehood.dto.orderitem.OrderItemDto;
+import com.example.winehood.repository.order.OrderExportView;
+import com.example.winehood.repository.order.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+    private static final String CSV_HEADER = "order_id,user_id,order_date,status,total,"
+            + "shipping_address,order_item_id,wine_id,quantity";
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(OrderExportParametersDto parameters, OrderExportFormat format,
+                       OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<OrderExportView> rows = orderRepository.streamAllForExport(
+                parameters.from().atStartOfDay(),
+                parameters.to().plusDays(1).atStartOfDay(),
+                parameters.status())) {
+            switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+                case CSV -> writeCsv(rows.iterator(), writer);
+                default -> throw new IllegalArgumentException("Unsupported format: " + format);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<OrderExportView> rows, Writer writer) throws IOException {
+        OrderExportView order = null;
+        Set<OrderItemDto> orderItems = new LinkedHashSet<>();
+        while (rows.hasNext()) {
+            OrderExportView row = rows.next();
+            if (order != null && !order.getOrderId().equals(row.getOrderId())) {
+                writeOrder(order, orderItems, writer);
+                orderItems = new LinkedHashSet<>();
+            }
+            order = row;
+            if (row.getOrderItemId() != null) {
+                orderItems.add(new OrderItemDto(
+                        row.getOrderItemId(), row.getWineId(), row.getQuantity()));
+            }
+        }
+        if (order != null) {
+            writeOrder(order, orderItems, writer);
+        }
+    }
+
+    private void writeOrder(OrderExportView order, Set<OrderItemDto> orderItems, Writer writer)
+            throws IOException {
+        writer.write(objectMapper.writeValueAsString(new OrderDto(
+                order.getOrderId(),
+                order.getUserId(),
+                order.getOrderDate(),
+                orderItems,
+                order.getStatus(),
+                order.getTotal(),
+                order.getShippingAddress())));
+        writer.write('\n');
+    }
+
+    private void writeCsv(Iterator<OrderExportView> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            OrderExportView row = rows.next();
+            writer.write(String.join(",",
+                    toCsvValue(row.getOrderId()),
+                    toCsvValue(row.getUserId()),
+                    toCsvValue(row.getOrderDate()),
+                    toCsvValue(row.getStatus()),
+                    toCsvValue(row.getTotal()),
+                    toCsvValue(row.getShippingAddress()),
+                    toCsvValue(row.getOrderItemId()),
+                    toCsvValue(row.getWineId()),
+                    toCsvValue(row.getQuantity())));
+            writer.write('\n');
+        }
+    }
+
+    private String toCsvValue(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.contains(",") || text.contains("\"")
+                || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -1,20 +1,34 @@
 package com.example.winehood.service.order;
 
+import com.example.winehood.dto.order.BulkUpdateOrderStatusRequestDto;
 import com.example.winehood.dto.order.CreateOrderRequestDto;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderStatusUpdateResultDto;
 import com.example.winehood.dto.order.UpdateOrderRequestDto;
 import com.example.winehood.dto.orderitem.OrderItemDto;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface OrderService {
     OrderDto createOrder(Long userId, CreateOrderRequestDto createOrderDto);
 
+    OrderDto createOrder(Long userId, CreateOrderRequestDto createOrderDto,
+                         String idempotencyKey);
+
     Page<OrderDto> getOrders(Long userId, Pageable pageable);
 
+    Slice<OrderDto> getOrderSlice(Long userId, Pageable pageable);
+
     OrderDto updateOrderStatus(Long orderId, UpdateOrderRequestDto updateOrderDto);
 
+    List<OrderStatusUpdateResultDto> updateOrderStatuses(
+            BulkUpdateOrderStatusRequestDto requestDto);
+
     Page<OrderItemDto> getOrderItemsByOrderId(Long orderId, Pageable pageable);
 
+    Slice<OrderItemDto> getOrderItemSliceByOrderId(Long orderId, Pageable pageable);
+
     OrderItemDto getOrderItemByIdAndOrderId(Long orderId, Long orderItemId);
 }
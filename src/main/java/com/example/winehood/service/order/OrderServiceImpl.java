@@ -1,7 +1,9 @@
 package com.example.winehood.service.order;
 
+import com.example.winehood.dto.order.BulkUpdateOrderStatusRequestDto;
 import com.example.winehood.dto.order.CreateOrderRequestDto;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderStatusUpdateResultDto;
 import com.example.winehood.dto.order.UpdateOrderRequestDto;
 import com.example.winehood.dto.orderitem.OrderItemDto;
 import com.example.winehood.exception.DataProcessingException;
@@ -12,15 +14,29 @@ import com.example.winehood.model.CartItem;
 import com.example.winehood.model.Order;
 import com.example.winehood.model.OrderItem;
 import com.example.winehood.model.ShoppingCart;
+import com.example.winehood.repository.cartitem.CartItemRepository;
 import com.example.winehood.repository.order.OrderRepository;
+import com.example.winehood.repository.order.OrderStatusView;
 import com.example.winehood.repository.orderitem.OrderItemRepository;
+import com.example.winehood.repository.orderitem.OrderItemView;
 import com.example.winehood.repository.shoppingcart.ShoppingCartRepository;
+import com.example.winehood.repository.wine.WineStockRepository;
+import com.example.winehood.service.idempotency.IdempotencyKeyService;
+import com.example.winehood.service.order.event.OrderEvent;
+import com.example.winehood.service.order.event.OrderEventOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,12 +49,18 @@ public class OrderServiceImpl implements OrderService {
     private final OrderItemMapper orderItemMapper;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final WineStockRepository wineStockRepository;
+    private final CartItemRepository cartItemRepository;
+    private final IdempotencyKeyService idempotencyKeyService;
+    private final OrderEventOutbox orderEventOutbox;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public OrderDto createOrder(Long userId, CreateOrderRequestDto createOrderDto) {
         ShoppingCart shoppingCart = findShoppingCartByUserId(userId);
 
         validateCartItems(shoppingCart.getCartItems());
+        reserveStock(shoppingCart.getCartItems());
 
         Order order = createAndSaveOrder(shoppingCart, createOrderDto);
         Set<OrderItem> orderItemSet = createAndSaveOrderItems(
@@ -46,34 +68,97 @@ public class OrderServiceImpl implements OrderService {
         order.setOrderItems(orderItemSet);
 
         clearShoppingCart(shoppingCart);
+        orderEventOutbox.append(OrderEvent.Type.ORDER_PLACED, order);
 
         return orderMapper.toDto(order);
     }
 
     @Override
+    public OrderDto createOrder(Long userId, CreateOrderRequestDto createOrderDto,
+                                String idempotencyKey) {
+        return idempotencyKeyService.execute(userId, idempotencyKey, createOrderDto,
+                OrderDto.class, () -> createOrder(userId, createOrderDto));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<OrderDto> getOrders(Long userId, Pageable pageable) {
         Page<Order> userOrders = orderRepository.findAllByUserId(userId, pageable);
         if (userOrders.isEmpty()) {
             throw new EntityNotFoundException("No orders found for user with id: " + userId);
         }
 
-        return userOrders.map(orderMapper::toDto);
+        Map<Long, Set<OrderItemDto>> orderItemsByOrderId =
+                findOrderItemsByOrderIds(userOrders.map(Order::getId).getContent());
+        return userOrders.map(order -> orderMapper.toDto(order,
+                orderItemsByOrderId.getOrDefault(order.getId(), Set.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderDto> getOrderSlice(Long userId, Pageable pageable) {
+        Slice<Order> userOrders = orderRepository.findSliceByUserId(userId, pageable);
+        Map<Long, Set<OrderItemDto>> orderItemsByOrderId =
+                findOrderItemsByOrderIds(userOrders.map(Order::getId).getContent());
+        return userOrders.map(order -> orderMapper.toDto(order,
+                orderItemsByOrderId.getOrDefault(order.getId(), Set.of())));
     }
 
     @Override
     public OrderDto updateOrderStatus(Long orderId, UpdateOrderRequestDto updateOrderDto) {
         Order order = findOrderById(orderId);
+        validateStatusTransition(order.getStatus(), updateOrderDto.status());
         order.setStatus(updateOrderDto.status());
+        orderEventOutbox.append(OrderEvent.Type.ORDER_STATUS_CHANGED, order);
         return orderMapper.toDto(orderRepository.save(order));
     }
 
     @Override
+    public List<OrderStatusUpdateResultDto> updateOrderStatuses(
+            BulkUpdateOrderStatusRequestDto requestDto) {
+        Order.Status expectedStatus = requestDto.expectedStatus();
+        Order.Status status = requestDto.status();
+        validateStatusTransition(expectedStatus, status);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Set<Long> orderIds = new LinkedHashSet<>(requestDto.orderIds());
+        Map<Long, OrderStatusView> ordersById = orderRepository.findStatusesForUpdate(orderIds)
+                .stream()
+                .collect(Collectors.toMap(OrderStatusView::getId, Function.identity()));
+        List<OrderStatusView> matching = ordersById.values().stream()
+                .filter(o -> o.getStatus() == expectedStatus)
+                .toList();
+        if (!matching.isEmpty()) {
+            orderRepository.updateStatus(
+                    matching.stream().map(OrderStatusView::getId).toList(),
+                    expectedStatus, status);
+            orderEventOutbox.appendStatusChanges(matching, status);
+        }
+
+        meterRegistry.counter("orders.status.updated").increment(matching.size());
+        sample.stop(meterRegistry.timer("orders.status.bulk-update"));
+        return orderIds.stream()
+                .map(orderId -> toStatusUpdateResult(
+                        orderId, ordersById.get(orderId), expectedStatus, status))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<OrderItemDto> getOrderItemsByOrderId(Long orderId, Pageable pageable) {
         return orderItemRepository.findAllByOrderId(orderId, pageable)
                 .map(orderItemMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderItemDto> getOrderItemSliceByOrderId(Long orderId, Pageable pageable) {
+        return orderItemRepository.findSliceByOrderId(orderId, pageable)
+                .map(orderItemMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public OrderItemDto getOrderItemByIdAndOrderId(Long orderId, Long orderItemId) {
         OrderItem orderItem = findOrderItemById(orderItemId, orderId);
         validateOrderItemOwnership(orderItem, orderId);
@@ -81,11 +166,20 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private ShoppingCart findShoppingCartByUserId(Long userId) {
-        return shoppingCartRepository.findByUserId(userId)
+        return shoppingCartRepository.findForUpdateByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Shopping cart not found for user Id: " + userId));
     }
 
+    private Map<Long, Set<OrderItemDto>> findOrderItemsByOrderIds(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemRepository.findAllViewsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemView::getOrderId,
+                        Collectors.mapping(orderItemMapper::toDtoFromView, Collectors.toSet())));
+    }
+
     private Order findOrderById(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -105,6 +199,18 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    private void reserveStock(Set<CartItem> cartItems) {
+        Map<Long, Integer> quantitiesByWineId = cartItems.stream()
+                .collect(Collectors.toMap(c -> c.getWine().getId(), CartItem::getQuantity,
+                        Integer::sum));
+        List<Long> outOfStock = wineStockRepository.reserve(quantitiesByWineId);
+        if (!outOfStock.isEmpty()) {
+            throw new DataProcessingException(
+                    "Unable to create order, not enough stock for wines with ids: "
+                            + outOfStock);
+        }
+    }
+
     private Order createAndSaveOrder(ShoppingCart shoppingCart, CreateOrderRequestDto requestDto) {
         Order order = new Order();
         order.setUser(shoppingCart.getUser());
@@ -135,8 +241,31 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void clearShoppingCart(ShoppingCart shoppingCart) {
-        shoppingCart.getCartItems().clear();
-        shoppingCartRepository.save(shoppingCart);
+        cartItemRepository.deleteAllByShoppingCartId(shoppingCart.getId());
+    }
+
+    private void validateStatusTransition(Order.Status currentStatus, Order.Status status) {
+        if (!currentStatus.canTransitionTo(status)) {
+            throw new DataProcessingException("Unable to change order status from "
+                    + currentStatus + " to " + status + ", allowed statuses: "
+                    + currentStatus.getNextStatuses());
+        }
+    }
+
+    private OrderStatusUpdateResultDto toStatusUpdateResult(Long orderId, OrderStatusView order,
+                                                            Order.Status expectedStatus,
+                                                            Order.Status status) {
+        if (order == null) {
+            return new OrderStatusUpdateResultDto(
+                    orderId, OrderStatusUpdateResultDto.Outcome.NOT_FOUND, null);
+        }
+        if (order.getStatus() != expectedStatus) {
+            return new OrderStatusUpdateResultDto(
+                    orderId, OrderStatusUpdateResultDto.Outcome.STATUS_MISMATCH,
+                    order.getStatus());
+        }
+        return new OrderStatusUpdateResultDto(
+                orderId, OrderStatusUpdateResultDto.Outcome.UPDATED, status);
     }
 
     private void validateOrderItemOwnership(OrderItem orderItem, Long orderId) {
@@ -0,0 +1,16 @@
+package com.example.winehood.service.order.event;
+
+import com.example.winehood.model.Order;
+
+public record OrderEvent(
+        Long id,
+        Type type,
+        Long orderId,
+        Long userId,
+        Order.Status orderStatus,
+        int attempts) {
+    public enum Type {
+        ORDER_PLACED,
+        ORDER_STATUS_CHANGED
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.winehood.service.order.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderEventDispatcher implements DisposableBean {
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    private final OrderEventOutbox orderEventOutbox;
+    private final List<OrderEventHandler> orderEventHandlers;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    public OrderEventDispatcher(
+            OrderEventOutbox orderEventOutbox,
+            List<OrderEventHandler> orderEventHandlers,
+            @Value("${winehood.order-events.threads}") int threads,
+            @Value("${winehood.order-events.queue-capacity}") int queueCapacity,
+            @Value("${winehood.order-events.batch-size}") int batchSize,
+            @Value("${winehood.order-events.max-attempts}") int maxAttempts,
+            @Value("${winehood.order-events.initial-backoff}") Duration initialBackoff,
+            @Value("${winehood.order-events.max-backoff}") Duration maxBackoff,
+            @Value("${winehood.order-events.claim-timeout}") Duration claimTimeout,
+            @Value("${winehood.order-events.retention}") Duration retention) {
+        this.orderEventOutbox = orderEventOutbox;
+        this.orderEventHandlers = orderEventHandlers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-events-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+    }
+
+    @Scheduled(fixedDelayString = "${winehood.order-events.poll-interval}")
+    public void poll() {
+        int capacity = Math.min(batchSize,
+                executor.getThreadPoolExecutor().getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return;
+        }
+        String claimToken = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        orderEventOutbox.claim(claimToken, now, now.minus(claimTimeout), capacity)
+                .forEach(event -> executor.execute(() -> dispatch(event, claimToken)));
+    }
+
+    public void dispatch(OrderEvent event, String claimToken) {
+        try {
+            orderEventHandlers.stream()
+                    .filter(handler -> handler.supports(event.type()))
+                    .forEach(handler -> handler.handle(event));
+            orderEventOutbox.complete(event.id(), claimToken);
+        } catch (RuntimeException e) {
+            int attempts = event.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                orderEventOutbox.fail(event.id(), claimToken, attempts, e.toString());
+            } else {
+                orderEventOutbox.retry(event.id(), claimToken, attempts,
+                        Instant.now().plus(getBackoff(attempts)), e.toString());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${winehood.order-events.cleanup-interval}")
+    public void deleteCompleted() {
+        orderEventOutbox.deleteCompletedBefore(Instant.now().minus(retention));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(
+                1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
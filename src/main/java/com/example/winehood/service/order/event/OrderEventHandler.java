@@ -0,0 +1,7 @@
+package com.example.winehood.service.order.event;
+
+public interface OrderEventHandler {
+    boolean supports(OrderEvent.Type type);
+
+    void handle(OrderEvent event);
+}
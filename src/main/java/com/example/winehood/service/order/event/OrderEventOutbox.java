@@ -0,0 +1,94 @@
+package com.example.winehood.service.order.event;
+
+import com.example.winehood.model.Order;
+import com.example.winehood.repository.order.OrderStatusView;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final String INSERT = "INSERT INTO order_events"
+            + " (type, order_id, user_id, order_status, status, next_attempt_at, created_at)"
+            + " VALUES (?, ?, ?, ?, 'PENDING', ?, ?)";
+    private static final String CLAIM = "UPDATE order_events"
+            + " SET status = 'PROCESSING', claimed_by = ?, claimed_at = ?"
+            + " WHERE (status = 'PENDING' AND next_attempt_at <= ?)"
+            + " OR (status = 'PROCESSING' AND claimed_at < ?)"
+            + " ORDER BY id LIMIT ?";
+    private static final String SELECT_CLAIMED = "SELECT id, type, order_id, user_id,"
+            + " order_status, attempts FROM order_events"
+            + " WHERE claimed_by = ? AND status = 'PROCESSING' ORDER BY id";
+    private static final String COMPLETE = "UPDATE order_events"
+            + " SET status = 'DONE', claimed_by = NULL WHERE id = ? AND claimed_by = ?";
+    private static final String RELEASE = "UPDATE order_events"
+            + " SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?,"
+            + " claimed_by = NULL WHERE id = ? AND claimed_by = ?";
+    private static final String DELETE_COMPLETED =
+            "DELETE FROM order_events WHERE status = 'DONE' AND created_at < ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(OrderEvent.Type type, Order order) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT, type.name(), order.getId(), order.getUser().getId(),
+                order.getStatus().name(), now, now);
+    }
+
+    public void appendStatusChanges(List<OrderStatusView> orders, Order.Status status) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, orders.stream()
+                .map(order -> new Object[]{OrderEvent.Type.ORDER_STATUS_CHANGED.name(),
+                        order.getId(), order.getUserId(), status.name(), now, now})
+                .toList());
+    }
+
+    public List<OrderEvent> claim(String claimToken, Instant now, Instant staleClaimedBefore,
+                                  int limit) {
+        int claimed = jdbcTemplate.update(CLAIM, claimToken, Timestamp.from(now),
+                Timestamp.from(now), Timestamp.from(staleClaimedBefore), limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_CLAIMED, this::toOrderEvent, claimToken);
+    }
+
+    public void complete(Long eventId, String claimToken) {
+        jdbcTemplate.update(COMPLETE, eventId, claimToken);
+    }
+
+    public void retry(Long eventId, String claimToken, int attempts, Instant nextAttemptAt,
+                      String error) {
+        jdbcTemplate.update(RELEASE, "PENDING", attempts, Timestamp.from(nextAttemptAt),
+                truncate(error), eventId, claimToken);
+    }
+
+    public void fail(Long eventId, String claimToken, int attempts, String error) {
+        jdbcTemplate.update(RELEASE, "FAILED", attempts, Timestamp.from(Instant.now()),
+                truncate(error), eventId, claimToken);
+    }
+
+    public int deleteCompletedBefore(Instant createdBefore) {
+        return jdbcTemplate.update(DELETE_COMPLETED, Timestamp.from(createdBefore));
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private OrderEvent toOrderEvent(ResultSet resultSet, int rowNumber) throws SQLException {
+        return new OrderEvent(
+                resultSet.getLong("id"),
+                OrderEvent.Type.valueOf(resultSet.getString("type")),
+                resultSet.getLong("order_id"),
+                resultSet.getLong("user_id"),
+                Order.Status.valueOf(resultSet.getString("order_status")),
+                resultSet.getInt("attempts"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.winehood.service.order.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderMetricsHandler implements OrderEventHandler {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supports(OrderEvent.Type type) {
+        return true;
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        meterRegistry.counter("orders.events",
+                        "type", event.type().name(),
+                        "status", event.orderStatus().name())
+                .increment();
+    }
+}
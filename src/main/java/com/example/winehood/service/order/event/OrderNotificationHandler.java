@@ -0,0 +1,38 @@
+package com.example.winehood.service.order.event;
+
+import com.example.winehood.dto.order.OrderNotificationDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class OrderNotificationHandler implements OrderEventHandler {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private final RestClient restClient;
+    private final String notificationUrl;
+
+    public OrderNotificationHandler(
+            RestClient.Builder restClientBuilder,
+            @Value("${winehood.order-events.notification-url}") String notificationUrl) {
+        this.restClient = restClientBuilder.build();
+        this.notificationUrl = notificationUrl;
+    }
+
+    @Override
+    public boolean supports(OrderEvent.Type type) {
+        return !notificationUrl.isBlank();
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        restClient.post()
+                .uri(notificationUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENCY_KEY_HEADER, "order-event-" + event.id())
+                .body(new OrderNotificationDto(event.id(), event.type(), event.orderId(),
+                        event.userId(), event.orderStatus()))
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
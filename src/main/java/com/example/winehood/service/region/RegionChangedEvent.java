@@ -0,0 +1,4 @@
+package com.example.winehood.service.region;
+
+public record RegionChangedEvent(Long regionId) {
+}
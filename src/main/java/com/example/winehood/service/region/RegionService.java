@@ -2,6 +2,7 @@ package com.example.winehood.service.region;
 
 import com.example.winehood.dto.region.CreateRegionRequestDto;
 import com.example.winehood.dto.region.RegionDto;
+import com.example.winehood.dto.version.ResourceVersionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,8 +11,12 @@ public interface RegionService {
 
     RegionDto findById(Long regionId);
 
+    ResourceVersionDto findVersionById(Long regionId);
+
     Page<RegionDto> findAll(Pageable pageable);
 
+    ResourceVersionDto findCollectionVersion();
+
     RegionDto updateById(Long regionId, CreateRegionRequestDto requestDto);
 
     void deleteById(Long regionId);
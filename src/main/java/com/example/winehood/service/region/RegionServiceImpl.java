@@ -1,12 +1,20 @@
 package com.example.winehood.service.region;
 
+import com.example.winehood.cache.CatalogCacheNames;
 import com.example.winehood.dto.region.CreateRegionRequestDto;
 import com.example.winehood.dto.region.RegionDto;
+import com.example.winehood.dto.version.ResourceVersionDto;
 import com.example.winehood.exception.EntityNotFoundException;
 import com.example.winehood.mapper.RegionMapper;
+import com.example.winehood.mapper.ResourceVersionMapper;
 import com.example.winehood.model.Region;
+import com.example.winehood.repository.catalog.CatalogVersionRepository;
 import com.example.winehood.repository.region.RegionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,36 +25,77 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RegionServiceImpl implements RegionService {
     private final RegionRepository regionRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
     private final RegionMapper regionMapper;
+    private final ResourceVersionMapper resourceVersionMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.REGIONS, allEntries = true)
     public RegionDto save(CreateRegionRequestDto requestDto) {
         Region regionFromDto = regionMapper.toEntity(requestDto);
-        return regionMapper.toDto(regionRepository.save(regionFromDto));
+        Region savedRegion = regionRepository.save(regionFromDto);
+        eventPublisher.publishEvent(new RegionChangedEvent(savedRegion.getId()));
+        return regionMapper.toDto(savedRegion);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CatalogCacheNames.REGION)
     public RegionDto findById(Long regionId) {
         Region regionFromDb = findRegionById(regionId);
         return regionMapper.toDto(regionFromDb);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDto findVersionById(Long regionId) {
+        return regionRepository.findVersionById(regionId)
+                .map(versionView -> resourceVersionMapper.toDto(regionId, versionView))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find region by id: " + regionId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CatalogCacheNames.REGIONS)
     public Page<RegionDto> findAll(Pageable pageable) {
-        return regionRepository.findAll(pageable)
+        return regionRepository.findAllViews(pageable)
                 .map(regionMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDto findCollectionVersion() {
+        return resourceVersionMapper.toDto(
+                catalogVersionRepository.findByName(CatalogVersionRepository.REGIONS));
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.REGION, key = "#regionId"),
+            @CacheEvict(cacheNames = {CatalogCacheNames.REGIONS, CatalogCacheNames.WINE,
+                    CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+                    allEntries = true)
+    })
     public RegionDto updateById(Long regionId, CreateRegionRequestDto requestDto) {
         Region regionFromDb = findRegionById(regionId);
         regionMapper.updateEntityFromDto(requestDto, regionFromDb);
-        return regionMapper.toDto(regionRepository.save(regionFromDb));
+        Region savedRegion = regionRepository.save(regionFromDb);
+        eventPublisher.publishEvent(new RegionChangedEvent(regionId));
+        return regionMapper.toDto(savedRegion);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.REGION, key = "#regionId"),
+            @CacheEvict(cacheNames = {CatalogCacheNames.REGIONS, CatalogCacheNames.WINE,
+                    CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+                    allEntries = true)
+    })
     public void deleteById(Long regionId) {
         regionRepository.deleteById(regionId);
+        eventPublisher.publishEvent(new RegionChangedEvent(regionId));
     }
 
     private Region findRegionById(Long regionId) {
@@ -5,9 +5,12 @@ import com.example.winehood.dto.review.ReviewDto;
 import com.example.winehood.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ReviewService {
     ReviewDto save(User user, CreateReviewRequestDto requestDto);
 
     Page<ReviewDto> findAllReviewsByWineId(Long wineId, Pageable pageable);
+
+    Slice<ReviewDto> findReviewSliceByWineId(Long wineId, Pageable pageable);
 }
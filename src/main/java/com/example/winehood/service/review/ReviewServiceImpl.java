@@ -1,5 +1,6 @@
 package com.example.winehood.service.review;
 
+import com.example.winehood.cache.CatalogCacheNames;
 import com.example.winehood.dto.review.CreateReviewRequestDto;
 import com.example.winehood.dto.review.ReviewDto;
 import com.example.winehood.exception.EntityNotFoundException;
@@ -9,10 +10,15 @@ import com.example.winehood.model.User;
 import com.example.winehood.model.Wine;
 import com.example.winehood.repository.review.ReviewRepository;
 import com.example.winehood.repository.wine.WineRepository;
+import com.example.winehood.service.wine.WineChangedEvent;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +29,14 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewMapper reviewMapper;
     private final WineRepository wineRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.WINE, key = "#requestDto.wineId()"),
+            @CacheEvict(cacheNames = {CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+                    allEntries = true)
+    })
     public ReviewDto save(User user, CreateReviewRequestDto requestDto) {
         Wine wineFromDb = wineRepository.findById(requestDto.wineId()).orElseThrow(
                 () -> new EntityNotFoundException("Can't find wine by id: " + requestDto.wineId()));
@@ -32,12 +44,23 @@ public class ReviewServiceImpl implements ReviewService {
         reviewFromDto.setWine(wineFromDb);
         reviewFromDto.setUser(user);
         reviewFromDto.setTimestamp(LocalDateTime.now());
-        return reviewMapper.toDto(reviewRepository.save(reviewFromDto));
+        Review savedReview = reviewRepository.save(reviewFromDto);
+        wineRepository.addRating(wineFromDb.getId(), savedReview.getRating());
+        eventPublisher.publishEvent(new WineChangedEvent(wineFromDb.getId()));
+        return reviewMapper.toDto(savedReview);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ReviewDto> findAllReviewsByWineId(Long wineId, Pageable pageable) {
-        return reviewRepository.findAllByWineId(wineId, pageable)
+        return reviewRepository.findAllViewsByWineId(wineId, pageable)
+                .map(reviewMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReviewDto> findReviewSliceByWineId(Long wineId, Pageable pageable) {
+        return reviewRepository.findViewSliceByWineId(wineId, pageable)
                 .map(reviewMapper::toDto);
     }
 }
@@ -0,0 +1,58 @@
+package com.example.winehood.service.search;
+
+import com.example.winehood.model.Wine;
+import com.example.winehood.repository.region.RegionRepository;
+import com.example.winehood.repository.wine.WineRepository;
+import com.example.winehood.service.region.RegionChangedEvent;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineChangedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexUpdater {
+    private final WineRepository wineRepository;
+    private final RegionRepository regionRepository;
+    private final WineSearchIndex wineSearchIndex;
+    private final WineSuggester wineSuggester;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Wine> wines = wineRepository.findAllWithRegion();
+        wineSearchIndex.rebuild(wines);
+        wineSuggester.rebuild(wines, regionRepository.findAll());
+    }
+
+    @TransactionalEventListener
+    public void onWineChanged(WineChangedEvent event) {
+        wineRepository.findWithRegionById(event.wineId()).ifPresentOrElse(
+                wine -> {
+                    wineSearchIndex.index(wine);
+                    wineSuggester.index(wine);
+                },
+                () -> {
+                    wineSearchIndex.remove(event.wineId());
+                    wineSuggester.removeWine(event.wineId());
+                });
+    }
+
+    @TransactionalEventListener
+    public void onWineCatalogChanged(WineCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onRegionChanged(RegionChangedEvent event) {
+        regionRepository.findById(event.regionId()).ifPresentOrElse(
+                wineSuggester::index,
+                () -> wineSuggester.removeRegion(event.regionId()));
+        wineSearchIndex.removeByRegionId(event.regionId());
+        wineRepository.findAllWithRegionByRegionId(event.regionId())
+                .forEach(wineSearchIndex::index);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.winehood.service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SuggestionTrie {
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt(Suggestion::count).reversed()
+            .thenComparing(Suggestion::text);
+    private final int capacity;
+    private final Node root = new Node();
+
+    SuggestionTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void add(String text) {
+        String key = SearchTokenizer.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        node.top = null;
+        for (char character : key.toCharArray()) {
+            node = node.children.computeIfAbsent(character, c -> new Node());
+            node.top = null;
+        }
+        if (node.count == 0) {
+            node.text = text;
+        }
+        node.count++;
+    }
+
+    void remove(String text) {
+        String key = SearchTokenizer.normalize(text);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        for (char character : key.toCharArray()) {
+            node = node.children.get(character);
+            if (node == null) {
+                return;
+            }
+            path.push(node);
+        }
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count == 0) {
+            node.text = null;
+        }
+        for (int index = key.length() - 1; index >= 0; index--) {
+            Node child = path.pop();
+            Node parent = path.peek();
+            child.top = null;
+            if (child.count == 0 && child.children.isEmpty()) {
+                parent.children.remove(key.charAt(index));
+            }
+        }
+        root.top = null;
+    }
+
+    void clear() {
+        root.children.clear();
+        root.top = null;
+    }
+
+    List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        for (char character : SearchTokenizer.normalize(prefix).toCharArray()) {
+            node = node.children.get(character);
+            if (node == null) {
+                return List.of();
+            }
+        }
+        return top(node).stream()
+                .limit(limit)
+                .map(Suggestion::text)
+                .toList();
+    }
+
+    private List<Suggestion> top(Node node) {
+        List<Suggestion> cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(new Suggestion(node.text, node.count));
+        }
+        node.children.values().forEach(child -> candidates.addAll(top(child)));
+        candidates.sort(RANKING);
+        List<Suggestion> computed = List.copyOf(
+                candidates.subList(0, Math.min(capacity, candidates.size())));
+        node.top = computed;
+        return computed;
+    }
+
+    private record Suggestion(String text, int count) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String text;
+        private int count;
+        private volatile List<Suggestion> top;
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.winehood.service.search;
+
+import com.example.winehood.dto.wine.WineSearchHitDto;
+import com.example.winehood.model.Region;
+import com.example.winehood.model.Wine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WineSearchIndex {
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double GRAPE_VARIETY_WEIGHT = 2.0;
+    private static final double REGION_NAME_WEIGHT = 1.5;
+    private static final double COUNTRY_WEIGHT = 1.0;
+    private static final double EXACT_BOOST = 1.0;
+    private static final double PREFIX_BOOST = 0.7;
+    private static final double FUZZY_BOOST = 0.4;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private final Map<Long, IndexedWine> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Wine wine) {
+        IndexedWine document = toDocument(wine);
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.id());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long wineId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(wineId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByRegionId(Long regionId) {
+        lock.writeLock().lock();
+        try {
+            documents.values().stream()
+                    .filter(document -> regionId.equals(document.regionId()))
+                    .map(IndexedWine::id)
+                    .toList()
+                    .forEach(this::removeDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<Wine> wines) {
+        List<IndexedWine> rebuilt = wines.stream()
+                .map(this::toDocument)
+                .toList();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            deletions.clear();
+            rebuilt.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<WineSearchHitDto> search(String query, int limit) {
+        List<String> queryTerms = SearchTokenizer.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = match(queryTerm);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .map(score -> documents.get(score.getKey()).toHit(score.getValue()))
+                    .sorted(Comparator.comparingDouble(WineSearchHitDto::score).reversed()
+                            .thenComparing(WineSearchHitDto::name)
+                            .thenComparing(WineSearchHitDto::id))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> match(String queryTerm) {
+        Map<Long, Double> matches = new HashMap<>();
+        postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, true)
+                .forEach((term, wineWeights) -> accumulate(matches, wineWeights,
+                        term.equals(queryTerm) ? EXACT_BOOST : PREFIX_BOOST));
+        if (queryTerm.length() >= MIN_FUZZY_LENGTH) {
+            findFuzzyCandidates(queryTerm).stream()
+                    .filter(term -> !term.startsWith(queryTerm) && isWithinOneEdit(queryTerm, term))
+                    .forEach(term -> accumulate(matches, postings.get(term), FUZZY_BOOST));
+        }
+        return matches;
+    }
+
+    private Set<String> findFuzzyCandidates(String queryTerm) {
+        Set<String> candidates = new HashSet<>();
+        getDeletionVariants(queryTerm).forEach(variant -> candidates
+                .addAll(deletions.getOrDefault(variant, Set.of())));
+        return candidates;
+    }
+
+    private void accumulate(Map<Long, Double> matches, Map<Long, Double> wineWeights,
+                            double boost) {
+        wineWeights.forEach((wineId, weight) -> matches.merge(wineId, weight * boost, Math::max));
+    }
+
+    private Map<Long, Double> intersect(Map<Long, Double> scores, Map<Long, Double> termScores) {
+        Map<Long, Double> intersection = new HashMap<>();
+        scores.forEach((wineId, score) -> {
+            Double termScore = termScores.get(wineId);
+            if (termScore != null) {
+                intersection.put(wineId, score + termScore);
+            }
+        });
+        return intersection;
+    }
+
+    private boolean isWithinOneEdit(String source, String target) {
+        int lengthDifference = source.length() - target.length();
+        if (Math.abs(lengthDifference) > 1) {
+            return false;
+        }
+        String shorter = lengthDifference <= 0 ? source : target;
+        String longer = lengthDifference <= 0 ? target : source;
+        int shorterIndex = 0;
+        int longerIndex = 0;
+        boolean edited = false;
+        while (shorterIndex < shorter.length() && longerIndex < longer.length()) {
+            if (shorter.charAt(shorterIndex) != longer.charAt(longerIndex)) {
+                if (edited) {
+                    return false;
+                }
+                edited = true;
+                if (shorter.length() == longer.length()) {
+                    shorterIndex++;
+                }
+            } else {
+                shorterIndex++;
+            }
+            longerIndex++;
+        }
+        return true;
+    }
+
+    private void addDocument(IndexedWine document) {
+        documents.put(document.id(), document);
+        document.termWeights().forEach((term, weight) -> postings
+                .computeIfAbsent(term, this::createPostingList)
+                .put(document.id(), weight));
+    }
+
+    private Map<Long, Double> createPostingList(String term) {
+        if (term.length() >= MIN_FUZZY_LENGTH - 1) {
+            getDeletionVariants(term).forEach(variant -> deletions
+                    .computeIfAbsent(variant, key -> new HashSet<>())
+                    .add(term));
+        }
+        return new HashMap<>();
+    }
+
+    private void removeDocument(Long wineId) {
+        IndexedWine document = documents.remove(wineId);
+        if (document == null) {
+            return;
+        }
+        document.termWeights().keySet().forEach(term -> {
+            Map<Long, Double> wineWeights = postings.get(term);
+            wineWeights.remove(wineId);
+            if (wineWeights.isEmpty()) {
+                postings.remove(term);
+                removeDeletions(term);
+            }
+        });
+    }
+
+    private void removeDeletions(String term) {
+        getDeletionVariants(term).forEach(variant -> {
+            Set<String> terms = deletions.get(variant);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    deletions.remove(variant);
+                }
+            }
+        });
+    }
+
+    private List<String> getDeletionVariants(String term) {
+        List<String> variants = new ArrayList<>(term.length() + 1);
+        variants.add(term);
+        for (int index = 0; index < term.length(); index++) {
+            variants.add(term.substring(0, index) + term.substring(index + 1));
+        }
+        return variants;
+    }
+
+    private IndexedWine toDocument(Wine wine) {
+        Region region = wine.getRegion();
+        Map<String, Double> termWeights = new HashMap<>();
+        addTerms(termWeights, wine.getName(), NAME_WEIGHT);
+        addTerms(termWeights, wine.getGrapeVariety(), GRAPE_VARIETY_WEIGHT);
+        addTerms(termWeights, region.getName(), REGION_NAME_WEIGHT);
+        addTerms(termWeights, region.getCountry(), COUNTRY_WEIGHT);
+        return new IndexedWine(wine.getId(), wine.getName(), wine.getGrapeVariety(),
+                region.getId(), region.getName(), region.getCountry(), termWeights);
+    }
+
+    private void addTerms(Map<String, Double> termWeights, String text, double weight) {
+        SearchTokenizer.tokenize(text)
+                .forEach(term -> termWeights.merge(term, weight, Math::max));
+    }
+
+    private record IndexedWine(
+            Long id,
+            String name,
+            String grapeVariety,
+            Long regionId,
+            String regionName,
+            String country,
+            Map<String, Double> termWeights) {
+        private WineSearchHitDto toHit(double score) {
+            return new WineSearchHitDto(id, name, grapeVariety, regionId, regionName, country,
+                    score);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.winehood.service.search;
+
+import com.example.winehood.dto.wine.WineSuggestionsDto;
+import com.example.winehood.model.Region;
+import com.example.winehood.model.Wine;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WineSuggester {
+    public static final int MAXIMUM_LIMIT = 20;
+    private final SuggestionTrie names = new SuggestionTrie(MAXIMUM_LIMIT);
+    private final SuggestionTrie grapeVarieties = new SuggestionTrie(MAXIMUM_LIMIT);
+    private final SuggestionTrie regionNames = new SuggestionTrie(MAXIMUM_LIMIT);
+    private final Map<Long, Wine> indexedWines = new HashMap<>();
+    private final Map<Long, String> indexedRegionNames = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Wine wine) {
+        Wine snapshot = new Wine()
+                .setId(wine.getId())
+                .setName(wine.getName())
+                .setGrapeVariety(wine.getGrapeVariety());
+        lock.writeLock().lock();
+        try {
+            removeWineEntry(snapshot.getId());
+            indexedWines.put(snapshot.getId(), snapshot);
+            names.add(snapshot.getName());
+            grapeVarieties.add(snapshot.getGrapeVariety());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Region region) {
+        lock.writeLock().lock();
+        try {
+            removeRegionEntry(region.getId());
+            indexedRegionNames.put(region.getId(), region.getName());
+            regionNames.add(region.getName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeWine(Long wineId) {
+        lock.writeLock().lock();
+        try {
+            removeWineEntry(wineId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRegion(Long regionId) {
+        lock.writeLock().lock();
+        try {
+            removeRegionEntry(regionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<Wine> wines, Collection<Region> regions) {
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            grapeVarieties.clear();
+            regionNames.clear();
+            indexedWines.clear();
+            indexedRegionNames.clear();
+            wines.forEach(this::index);
+            regions.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public WineSuggestionsDto suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return new WineSuggestionsDto(
+                    names.suggest(prefix, limit),
+                    grapeVarieties.suggest(prefix, limit),
+                    regionNames.suggest(prefix, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeWineEntry(Long wineId) {
+        Wine wine = indexedWines.remove(wineId);
+        if (wine != null) {
+            names.remove(wine.getName());
+            grapeVarieties.remove(wine.getGrapeVariety());
+        }
+    }
+
+    private void removeRegionEntry(Long regionId) {
+        String regionName = indexedRegionNames.remove(regionId);
+        if (regionName != null) {
+            regionNames.remove(regionName);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.winehood.dto.cartitem.CreateCartItemRequestDto;
 import com.example.winehood.dto.cartitem.UpdateCartItemRequestDto;
 import com.example.winehood.dto.shoppingcart.ShoppingCartDto;
 import com.example.winehood.model.User;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface ShoppingCartService {
@@ -19,4 +20,6 @@ public interface ShoppingCartService {
             User user, Long cartItemId, UpdateCartItemRequestDto updateCartDto);
 
     void deleteWineFromShoppingCart(User user, Long cartItemId);
+
+    void deleteWinesFromShoppingCart(User user, List<Long> cartItemIds);
 }
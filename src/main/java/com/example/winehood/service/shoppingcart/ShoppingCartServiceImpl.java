@@ -15,6 +15,7 @@ import com.example.winehood.repository.cartitem.CartItemRepository;
 import com.example.winehood.repository.shoppingcart.ShoppingCartRepository;
 import com.example.winehood.repository.wine.WineRepository;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -52,7 +53,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     public CartItemDto addWineToShoppingCart(
             User user, CreateCartItemRequestDto createCartItemDto) {
         Wine wine = getWineById(createCartItemDto.wineId());
-        ShoppingCart shoppingCart = getShoppingCartByUserId(user.getId());
+        ShoppingCart shoppingCart = getShoppingCartForUpdate(user.getId());
 
         CartItem cartItem = shoppingCart.getCartItems().stream()
                 .filter(item -> item.getWine().getId().equals(wine.getId()))
@@ -68,7 +69,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     @Override
     public CartItemDto updateWineInShoppingCart(
             User user, Long cartItemId, UpdateCartItemRequestDto updateCartItemDto) {
-        CartItem cartItem = validateCartItemBelongsToUser(cartItemId, user.getId());
+        CartItem cartItem = getCartItemForUpdate(cartItemId, user.getId());
         cartItem.setQuantity(updateCartItemDto.quantity());
         cartItemRepository.save(cartItem);
         return cartItemMapper.toDto(cartItem);
@@ -76,27 +77,39 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
 
     @Override
     public void deleteWineFromShoppingCart(User user, Long cartItemId) {
-        CartItem cartItem = validateCartItemBelongsToUser(cartItemId, user.getId());
+        CartItem cartItem = getCartItemForUpdate(cartItemId, user.getId());
         cartItemRepository.delete(cartItem);
     }
 
+    @Override
+    public void deleteWinesFromShoppingCart(User user, List<Long> cartItemIds) {
+        ShoppingCart shoppingCart = getShoppingCartForUpdate(user.getId());
+        cartItemRepository.deleteAllByShoppingCartIdAndIdIn(shoppingCart.getId(), cartItemIds);
+    }
+
     private ShoppingCart getShoppingCartByUserId(Long userId) {
         return shoppingCartRepository.findByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find ShoppingCart for userId: " + userId));
     }
 
+    private ShoppingCart getShoppingCartForUpdate(Long userId) {
+        return shoppingCartRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find ShoppingCart for userId: " + userId));
+    }
+
     private Wine getWineById(Long wineId) {
         return wineRepository.findById(wineId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find Wine with wineId: " + wineId));
     }
 
-    private CartItem validateCartItemBelongsToUser(Long cartItemId, Long userId) {
+    private CartItem getCartItemForUpdate(Long cartItemId, Long userId) {
+        ShoppingCart shoppingCart = getShoppingCartForUpdate(userId);
         CartItem cartItem = getCartItemById(cartItemId);
-        ShoppingCart shoppingCart = cartItem.getShoppingCart();
 
-        if (!shoppingCart.getUser().getId().equals(userId)) {
+        if (!cartItem.getShoppingCart().getId().equals(shoppingCart.getId())) {
             throw new EntityNotFoundException(
                     "CartItem does not belong to this user's ShoppingCart");
         }
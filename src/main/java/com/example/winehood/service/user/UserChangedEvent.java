@@ -0,0 +1,7 @@
+package com.example.winehood.service.user;
+
+import java.time.Instant;
+import java.util.List;
+
+public record UserChangedEvent(Long userId, List<String> usernames, Instant tokensIssuedBefore) {
+}
@@ -9,12 +9,15 @@ import com.example.winehood.model.Role;
 import com.example.winehood.model.User;
 import com.example.winehood.repository.role.RoleRepository;
 import com.example.winehood.repository.user.UserRepository;
+import com.example.winehood.security.TokenRevocationRegistry;
 import com.example.winehood.service.shoppingcart.ShoppingCartService;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,8 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final ShoppingCartService shoppingCartService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResponseDto register(UserRegisterRequestDto registrationDto)
@@ -65,25 +70,35 @@ public class UserServiceImpl implements UserService {
         user.setRoles(roles);
 
         userRepository.save(user);
+        Instant revokedAt = Instant.now();
+        tokenRevocationRegistry.revokeIssuedBefore(user.getId(), revokedAt);
+        eventPublisher.publishEvent(new UserChangedEvent(
+                user.getId(), List.of(user.getUsername()), revokedAt));
 
         return userMapper.toDto(user);
     }
 
     @Override
     public UserResponseDto findProfile(User user) {
-        return userMapper.toDto(user);
+        return userMapper.toDto(getUser(user.getId()));
     }
 
     @Override
     public UserResponseDto updateProfile(User user, UserRegisterRequestDto updateDto) {
-        getUser(user.getId());
+        User userFromDb = getUser(user.getId());
+        final String previousUsername = userFromDb.getUsername();
+
+        userMapper.updateEntityFromDto(userFromDb, updateDto);
 
-        userMapper.updateEntityFromDto(user, updateDto);
+        userFromDb.setPassword(passwordEncoder.encode(updateDto.password()));
 
-        user.setPassword(passwordEncoder.encode(updateDto.password()));
-        user.setRoles(user.getRoles());
+        User savedUser = userRepository.save(userFromDb);
+        Instant revokedAt = Instant.now();
+        tokenRevocationRegistry.revokeIssuedBefore(savedUser.getId(), revokedAt);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(),
+                List.of(previousUsername, savedUser.getUsername()), revokedAt));
 
-        return userMapper.toDto(userRepository.save(user));
+        return userMapper.toDto(savedUser);
     }
 
     private Set<Role> findByNameContaining(Set<Role.RoleName> rolesSet) {
@@ -0,0 +1,54 @@
+package com.example.winehood.service.wine;
+
+import com.example.winehood.exception.DataProcessingException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvRecordReader {
+    private final Reader reader;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    List<String> read() throws IOException {
+        int character = reader.read();
+        while (character == '\r' || character == '\n') {
+            character = reader.read();
+        }
+        if (character == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (character == -1) {
+                    throw new DataProcessingException("Unterminated quoted CSV value");
+                }
+                if (character == '"') {
+                    character = reader.read();
+                    if (character != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                value.append((char) character);
+            } else if (character == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (character == '\r' || character == '\n' || character == -1) {
+                values.add(value.toString());
+                return values;
+            } else {
+                value.append((char) character);
+            }
+            character = reader.read();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.winehood.service.wine;
+
+public record WineChangedEvent(Long wineId) {
+}
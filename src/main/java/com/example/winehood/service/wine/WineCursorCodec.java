@@ -0,0 +1,43 @@
+package com.example.winehood.service.wine;
+
+import com.example.winehood.exception.DataProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+public class WineCursorCodec {
+    public static final Sort CURSOR_SORT = Sort.by("name", "id");
+    private static final String NAME_KEY = "name";
+    private static final String ID_KEY = "id";
+    private static final char SEPARATOR = ':';
+
+    public ScrollPosition decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(
+                    Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            Long id = Long.valueOf(decoded.substring(0, separatorIndex));
+            String name = decoded.substring(separatorIndex + 1);
+            return ScrollPosition.forward(Map.of(NAME_KEY, name, ID_KEY, id));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DataProcessingException("Invalid wine cursor: " + cursor);
+        }
+    }
+
+    public String encode(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        String raw = keys.get(ID_KEY) + String.valueOf(SEPARATOR) + keys.get(NAME_KEY);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.winehood.service.wine;
+
+import com.example.winehood.dto.wine.WineImportFormat;
+import com.example.winehood.dto.wine.WineImportResultDto;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface WineImportService {
+    WineImportResultDto importWines(InputStream inputStream, WineImportFormat format)
+            throws IOException;
+}
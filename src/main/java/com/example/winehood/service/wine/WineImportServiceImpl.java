@@ -0,0 +1,267 @@
+package com.example.winehood.service.wine;
+
+import com.example.winehood.cache.CatalogCacheNames;
+import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineImportBatchErrorDto;
+import com.example.winehood.dto.wine.WineImportErrorDto;
+import com.example.winehood.dto.wine.WineImportFormat;
+import com.example.winehood.dto.wine.WineImportResultDto;
+import com.example.winehood.exception.DataProcessingException;
+import com.example.winehood.repository.catalog.CatalogVersionRepository;
+import com.example.winehood.repository.region.RegionRepository;
+import com.example.winehood.repository.wine.WineImportRepository;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Transactional
+public class WineImportServiceImpl implements WineImportService {
+    private static final String NAME = "name";
+    private static final String PRICE = "price";
+    private static final String GRAPE_VARIETY = "grape_variety";
+    private static final String REGION_ID = "region_id";
+    private static final String STOCK = "stock";
+    private static final List<String> REQUIRED_CSV_COLUMNS =
+            List.of(NAME, PRICE, GRAPE_VARIETY, REGION_ID);
+    private final WineImportRepository wineImportRepository;
+    private final RegionRepository regionRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public WineImportServiceImpl(
+            WineImportRepository wineImportRepository,
+            RegionRepository regionRepository,
+            CatalogVersionRepository catalogVersionRepository,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${winehood.wine-import.batch-size}") int batchSize,
+            @Value("${winehood.wine-import.max-errors}") int maxErrors) {
+        this.wineImportRepository = wineImportRepository;
+        this.regionRepository = regionRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = {CatalogCacheNames.WINE, CatalogCacheNames.WINES,
+            CatalogCacheNames.WINES_BY_REGION}, allEntries = true)
+    public WineImportResultDto importWines(InputStream inputStream, WineImportFormat format)
+            throws IOException {
+        WineImport wineImport = new WineImport(regionRepository.findAllIds());
+        try {
+            switch (format) {
+                case CSV -> readCsv(inputStream, wineImport);
+                case JSON -> readJson(inputStream, wineImport);
+                default -> throw new IllegalArgumentException("Unsupported format: " + format);
+            }
+            wineImport.flush();
+        } finally {
+            if (wineImport.imported > 0) {
+                transactionTemplate.executeWithoutResult(status -> eventPublisher
+                        .publishEvent(new WineCatalogChangedEvent()));
+            }
+        }
+        return new WineImportResultDto(wineImport.rowsRead, wineImport.imported,
+                wineImport.failed, wineImport.errors, wineImport.failedBatches);
+    }
+
+    private void readCsv(InputStream inputStream, WineImport wineImport) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        List<String> header = reader.read();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = getCsvColumns(header);
+        long row = 0;
+        List<String> values;
+        while ((values = readCsvRecord(reader, wineImport)) != null) {
+            row++;
+            if (values.size() != header.size()) {
+                wineImport.reject(row, "Expected " + header.size() + " values but got "
+                        + values.size());
+                continue;
+            }
+            try {
+                wineImport.add(row, toRequestDto(values, columns));
+            } catch (IllegalArgumentException e) {
+                wineImport.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    private List<String> readCsvRecord(CsvRecordReader reader, WineImport wineImport)
+            throws IOException {
+        try {
+            return reader.read();
+        } catch (DataProcessingException e) {
+            wineImport.rejectNext(e.getMessage());
+            return null;
+        }
+    }
+
+    private void readJson(InputStream inputStream, WineImport wineImport) throws IOException {
+        long row = 0;
+        try (MappingIterator<CreateWineRequestDto> rows = objectMapper
+                .readerFor(CreateWineRequestDto.class)
+                .readValues(inputStream)) {
+            while (rows.hasNextValue()) {
+                row++;
+                try {
+                    wineImport.add(row, rows.nextValue());
+                } catch (JsonMappingException e) {
+                    wineImport.reject(row, e.getOriginalMessage());
+                }
+            }
+        } catch (StreamReadException e) {
+            wineImport.rejectNext("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Map<String, Integer> getCsvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int index = 0; index < header.size(); index++) {
+            String column = header.get(index).replace("\uFEFF", "").trim();
+            columns.put(column.toLowerCase(Locale.ROOT), index);
+        }
+        List<String> missingColumns = REQUIRED_CSV_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missingColumns.isEmpty()) {
+            throw new DataProcessingException("CSV header is missing columns: "
+                    + String.join(", ", missingColumns));
+        }
+        return columns;
+    }
+
+    private CreateWineRequestDto toRequestDto(List<String> values,
+                                              Map<String, Integer> columns) {
+        return new CreateWineRequestDto(
+                getValue(values, columns, NAME, Function.identity()),
+                getValue(values, columns, PRICE, BigDecimal::new),
+                getValue(values, columns, GRAPE_VARIETY, Function.identity()),
+                getValue(values, columns, REGION_ID, Long::valueOf),
+                getValue(values, columns, STOCK, Integer::valueOf));
+    }
+
+    private <T> T getValue(List<String> values, Map<String, Integer> columns, String column,
+                           Function<String, T> parser) {
+        Integer index = columns.get(column);
+        String value = index == null ? "" : values.get(index).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value, e);
+        }
+    }
+
+    private final class WineImport {
+        private final Set<Long> regionIds;
+        private final List<WineImportErrorDto> errors = new ArrayList<>();
+        private final List<WineImportBatchErrorDto> failedBatches = new ArrayList<>();
+        private List<CreateWineRequestDto> batch = new ArrayList<>();
+        private long batchFirstRow;
+        private long batchLastRow;
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        private WineImport(Set<Long> regionIds) {
+            this.regionIds = regionIds;
+        }
+
+        private void add(long row, CreateWineRequestDto requestDto) {
+            rowsRead = row;
+            String violations = validator.validate(requestDto).stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            if (!violations.isEmpty()) {
+                reject(row, violations);
+            } else if (!regionIds.contains(requestDto.regionId())) {
+                reject(row, "Can't find region by id: " + requestDto.regionId());
+            } else {
+                if (batch.isEmpty()) {
+                    batchFirstRow = row;
+                }
+                batchLastRow = row;
+                batch.add(requestDto);
+                if (batch.size() == batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        private void reject(long row, String message) {
+            rowsRead = row;
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new WineImportErrorDto(row, message));
+            }
+        }
+
+        private void rejectNext(String message) {
+            reject(rowsRead + 1, message);
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<CreateWineRequestDto> rows = batch;
+            batch = new ArrayList<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    wineImportRepository.upsert(rows);
+                    catalogVersionRepository.bump(CatalogVersionRepository.WINES);
+                });
+                imported += rows.size();
+            } catch (DataAccessException e) {
+                failed += rows.size();
+                failedBatches.add(new WineImportBatchErrorDto(batchFirstRow, batchLastRow,
+                        e.getMostSpecificCause().getMessage()));
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.winehood.service.wine;
 
+import com.example.winehood.dto.version.ResourceVersionDto;
 import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineCursorPageDto;
 import com.example.winehood.dto.wine.WineDto;
 import com.example.winehood.dto.wine.WineDtoWithoutRegion;
+import com.example.winehood.dto.wine.WineSearchHitDto;
 import com.example.winehood.dto.wine.WineSearchParametersDto;
+import com.example.winehood.dto.wine.WineSuggestionsDto;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,8 +17,14 @@ public interface WineService {
 
     WineDto findById(Long wineId);
 
+    ResourceVersionDto findVersionById(Long wineId);
+
     Page<WineDto> findAll(Pageable pageable);
 
+    WineCursorPageDto findAll(String cursor, int size);
+
+    ResourceVersionDto findCollectionVersion();
+
     Page<WineDtoWithoutRegion> findAllByRegionId(Long regionId, Pageable pageable);
 
     WineDto updateById(Long wineId, CreateWineRequestDto requestDto);
@@ -21,4 +32,11 @@ public interface WineService {
     void deleteById(Long wineId);
 
     Page<WineDto> searchByParameters(WineSearchParametersDto paramsDto, Pageable pageable);
+
+    WineCursorPageDto searchByParameters(
+            WineSearchParametersDto paramsDto, String cursor, int size);
+
+    List<WineSearchHitDto> searchByText(String query, int limit);
+
+    WineSuggestionsDto suggest(String prefix, int limit);
 }
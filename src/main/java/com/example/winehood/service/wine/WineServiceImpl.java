@@ -1,19 +1,35 @@
 package com.example.winehood.service.wine;
 
+import com.example.winehood.cache.CatalogCacheNames;
+import com.example.winehood.dto.version.ResourceVersionDto;
 import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineCursorPageDto;
 import com.example.winehood.dto.wine.WineDto;
 import com.example.winehood.dto.wine.WineDtoWithoutRegion;
+import com.example.winehood.dto.wine.WineSearchHitDto;
 import com.example.winehood.dto.wine.WineSearchParametersDto;
+import com.example.winehood.dto.wine.WineSuggestionsDto;
+import com.example.winehood.exception.DataProcessingException;
 import com.example.winehood.exception.EntityNotFoundException;
+import com.example.winehood.mapper.ResourceVersionMapper;
 import com.example.winehood.mapper.WineMapper;
 import com.example.winehood.model.Region;
 import com.example.winehood.model.Wine;
+import com.example.winehood.repository.catalog.CatalogVersionRepository;
 import com.example.winehood.repository.region.RegionRepository;
 import com.example.winehood.repository.wine.WineRepository;
 import com.example.winehood.repository.wine.WineSpecificationBuilder;
+import com.example.winehood.service.search.WineSearchIndex;
+import com.example.winehood.service.search.WineSuggester;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,59 +40,155 @@ import org.springframework.transaction.annotation.Transactional;
 public class WineServiceImpl implements WineService {
     private final WineRepository wineRepository;
     private final WineMapper wineMapper;
+    private final ResourceVersionMapper resourceVersionMapper;
     private final WineSpecificationBuilder wineSpecificationBuilder;
     private final RegionRepository regionRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final WineCursorCodec wineCursorCodec;
+    private final WineSearchIndex wineSearchIndex;
+    private final WineSuggester wineSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @CacheEvict(cacheNames = {CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+            allEntries = true)
     public WineDto save(CreateWineRequestDto requestDto) {
+        if (wineRepository.existsByNameAndRegionId(requestDto.name(), requestDto.regionId())) {
+            throw duplicateWineException(requestDto);
+        }
         Wine wineFromDto = wineMapper.toEntity(requestDto);
         wineFromDto.setRegion(getRegionsFromDto(requestDto));
-        return wineMapper.toDto(wineRepository.save(wineFromDto));
+        Wine savedWine = wineRepository.save(wineFromDto);
+        eventPublisher.publishEvent(new WineChangedEvent(savedWine.getId()));
+        return wineMapper.toDto(savedWine);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CatalogCacheNames.WINE)
     public WineDto findById(Long wineId) {
         Wine wineFromDb = findWineById(wineId);
         return wineMapper.toDto(wineFromDb);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDto findVersionById(Long wineId) {
+        return wineRepository.findVersionById(wineId)
+                .map(versionView -> resourceVersionMapper.toDto(wineId, versionView))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find wine by id: " + wineId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CatalogCacheNames.WINES)
     public Page<WineDto> findAll(Pageable pageable) {
-        return wineRepository.findAll(pageable)
+        return wineRepository.findAllViews(pageable)
                 .map(wineMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public WineCursorPageDto findAll(String cursor, int size) {
+        return scroll(Specification.where(null), cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDto findCollectionVersion() {
+        return resourceVersionMapper.toDto(
+                catalogVersionRepository.findByName(CatalogVersionRepository.WINES));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CatalogCacheNames.WINES_BY_REGION)
     public Page<WineDtoWithoutRegion> findAllByRegionId(Long regionId, Pageable pageable) {
         return wineRepository.findAllByRegionId(regionId, pageable)
                 .map(wineMapper::toDtoWithoutRegions);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.WINE, key = "#wineId"),
+            @CacheEvict(cacheNames = {CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+                    allEntries = true)
+    })
     public WineDto updateById(Long wineId, CreateWineRequestDto requestDto) {
         Wine wineFromDb = findWineById(wineId);
+        if (wineRepository.existsByNameAndRegionIdAndIdNot(
+                requestDto.name(), requestDto.regionId(), wineId)) {
+            throw duplicateWineException(requestDto);
+        }
         wineFromDb.setRegion(getRegionsFromDto(requestDto));
         wineMapper.updateEntityFromDto(requestDto, wineFromDb);
-        return wineMapper.toDto(wineRepository.save(wineFromDb));
+        Wine savedWine = wineRepository.save(wineFromDb);
+        eventPublisher.publishEvent(new WineChangedEvent(wineId));
+        return wineMapper.toDto(savedWine);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.WINE, key = "#wineId"),
+            @CacheEvict(cacheNames = {CatalogCacheNames.WINES, CatalogCacheNames.WINES_BY_REGION},
+                    allEntries = true)
+    })
     public void deleteById(Long wineId) {
         wineRepository.deleteById(wineId);
+        eventPublisher.publishEvent(new WineChangedEvent(wineId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<WineDto> searchByParameters(WineSearchParametersDto paramsDto, Pageable pageable) {
         Specification<Wine> wineSpecification = wineSpecificationBuilder.build(paramsDto);
         return wineRepository.findAll(wineSpecification, pageable)
                 .map(wineMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public WineCursorPageDto searchByParameters(
+            WineSearchParametersDto paramsDto, String cursor, int size) {
+        return scroll(wineSpecificationBuilder.build(paramsDto), cursor, size);
+    }
+
+    @Override
+    public List<WineSearchHitDto> searchByText(String query, int limit) {
+        return wineSearchIndex.search(query, limit);
+    }
+
+    @Override
+    public WineSuggestionsDto suggest(String prefix, int limit) {
+        return wineSuggester.suggest(prefix, limit);
+    }
+
+    private WineCursorPageDto scroll(Specification<Wine> specification, String cursor, int size) {
+        Window<Wine> window = wineRepository.findBy(specification, query -> query
+                .sortBy(WineCursorCodec.CURSOR_SORT)
+                .project("region")
+                .limit(size)
+                .scroll(wineCursorCodec.decode(cursor)));
+        String nextCursor = window.hasNext()
+                ? wineCursorCodec.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new WineCursorPageDto(
+                window.map(wineMapper::toDto).getContent(),
+                nextCursor);
+    }
+
     private Wine findWineById(Long wineId) {
         return wineRepository.findById(wineId).orElseThrow(
                 () -> new EntityNotFoundException("Can't find wine by id: " + wineId));
     }
 
+    private DataProcessingException duplicateWineException(CreateWineRequestDto requestDto) {
+        return new DataProcessingException(String.format(
+                "Wine with name %s already exists in region with id %d",
+                requestDto.name(), requestDto.regionId()));
+    }
+
     private Region getRegionsFromDto(CreateWineRequestDto requestDto) {
         return regionRepository.findById(requestDto.regionId()).orElseThrow(
                 () -> new EntityNotFoundException(
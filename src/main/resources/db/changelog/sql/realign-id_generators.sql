@@ -0,0 +1,7 @@
+UPDATE id_generators
+SET next_value = GREATEST(next_value, (SELECT COALESCE(MAX(id), 0) + 50 FROM orders))
+WHERE name = 'orders';
+
+UPDATE id_generators
+SET next_value = GREATEST(next_value, (SELECT COALESCE(MAX(id), 0) + 50 FROM order_items))
+WHERE name = 'order_items';
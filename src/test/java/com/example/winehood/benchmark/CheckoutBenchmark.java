@@ -0,0 +1,116 @@
+package com.example.winehood.benchmark;
+
+import com.example.winehood.WineHoodApplication;
+import com.example.winehood.dto.order.CreateOrderRequestDto;
+import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.service.order.OrderService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CheckoutBenchmark {
+    private static final long USER_ID = 10_000L;
+    private static final long REGION_ID = 10_000L;
+    private static final long FIRST_WINE_ID = 10_000L;
+    private static final CreateOrderRequestDto REQUEST_DTO = new CreateOrderRequestDto(
+            LocalDateTime.of(2025, 4, 11, 14, 30), "123 Main St, Ukraine");
+    @Param({"1", "10", "50", "200"})
+    private int cartSize;
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+    private ConfigurableApplicationContext applicationContext;
+    private OrderService orderService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Object[]> cartItems;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CheckoutBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(WineHoodApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        orderService = applicationContext.getBean(OrderService.class);
+        jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        deleteBenchmarkData();
+        cartItems = LongStream.range(FIRST_WINE_ID, FIRST_WINE_ID + cartSize)
+                .mapToObj(wineId -> new Object[]{wineId, USER_ID})
+                .toList();
+        jdbcTemplate.update("INSERT INTO regions (id, name, country)"
+                + " VALUES (?, 'Napa Valley', 'USA')", REGION_ID);
+        jdbcTemplate.update("INSERT INTO users"
+                + " (id, username, password, email, first_name, last_name)"
+                + " VALUES (?, 'benchmark', 'password', 'benchmark@example.com', 'John', 'Doe')",
+                USER_ID);
+        jdbcTemplate.update("INSERT INTO shopping_carts (user_id) VALUES (?)", USER_ID);
+        jdbcTemplate.batchUpdate("INSERT INTO wines"
+                + " (id, name, price, grape_variety, region_id, stock)"
+                + " VALUES (?, CONCAT('Wine ', ?), 20.0, 'Merlot', ?, 1000000000)",
+                cartItems.stream()
+                        .map(cartItem -> new Object[]{cartItem[0], cartItem[0], REGION_ID})
+                        .toList());
+    }
+
+    @Setup(Level.Invocation)
+    public void fillCart() {
+        jdbcTemplate.update("DELETE FROM cart_items WHERE shopping_cart_id = ?", USER_ID);
+        jdbcTemplate.batchUpdate("INSERT INTO cart_items (wine_id, shopping_cart_id, quantity)"
+                + " VALUES (?, ?, 1)", cartItems);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteBenchmarkData();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public OrderDto checkout() {
+        return orderService.createOrder(USER_ID, REQUEST_DTO);
+    }
+
+    private void deleteBenchmarkData() {
+        jdbcTemplate.update("DELETE oi FROM order_items oi JOIN orders o ON o.id = oi.order_id"
+                + " WHERE o.user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM cart_items WHERE shopping_cart_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM shopping_carts WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM wines WHERE region_id = ?", REGION_ID);
+        jdbcTemplate.update("DELETE FROM regions WHERE id = ?", REGION_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+}
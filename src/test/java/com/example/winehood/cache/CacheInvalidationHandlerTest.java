@@ -0,0 +1,123 @@
+package com.example.winehood.cache;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.winehood.security.TokenRevocationRegistry;
+import com.example.winehood.security.UserPrincipalCache;
+import com.example.winehood.service.search.SearchIndexUpdater;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineChangedEvent;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationHandlerTest {
+    @InjectMocks
+    private CacheInvalidationHandler cacheInvalidationHandler;
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+    @Mock
+    private SearchIndexUpdater searchIndexUpdater;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
+
+    @Test
+    @DisplayName("""
+            Evict the wine from local caches and refresh it in the search index
+            """)
+    void apply_WineInvalidation_EvictsLocalEntries() {
+        // Given
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(cacheManager.getCache(CatalogCacheNames.WINE)).thenReturn(cache);
+        when(cacheManager.getCache(CatalogCacheNames.WINES)).thenReturn(cache);
+        when(cacheManager.getCache(CatalogCacheNames.WINES_BY_REGION)).thenReturn(cache);
+        CacheInvalidation invalidation = new CacheInvalidation(
+                CacheInvalidation.Type.WINE, 1L, null, Instant.now());
+
+        // When
+        cacheInvalidationHandler.apply(invalidation);
+
+        // Then
+        verify(cache).evict(1L);
+        verify(searchIndexUpdater).onWineChanged(new WineChangedEvent(1L));
+        verifyNoInteractions(userPrincipalCache, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("""
+            Clear wine caches and rebuild the search index after a catalog import
+            """)
+    void apply_WineCatalogInvalidation_ClearsLocalCaches() {
+        // Given
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(cacheManager.getCache(CatalogCacheNames.WINE)).thenReturn(cache);
+        when(cacheManager.getCache(CatalogCacheNames.WINES)).thenReturn(cache);
+        when(cacheManager.getCache(CatalogCacheNames.WINES_BY_REGION)).thenReturn(cache);
+        CacheInvalidation invalidation = new CacheInvalidation(
+                CacheInvalidation.Type.WINE_CATALOG, 0L, null, Instant.now());
+
+        // When
+        cacheInvalidationHandler.apply(invalidation);
+
+        // Then
+        verify(cache, times(3)).clear();
+        verify(searchIndexUpdater).onWineCatalogChanged(new WineCatalogChangedEvent());
+        verifyNoInteractions(userPrincipalCache, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("""
+            Evict the user principal and revoke tokens issued before the change
+            """)
+    void apply_UserInvalidation_RevokesTokens() {
+        // Given
+        Instant occurredAt = Instant.parse("2025-01-01T10:00:00Z");
+        CacheInvalidation invalidation = new CacheInvalidation(
+                CacheInvalidation.Type.USER, 2L, "john.doe", occurredAt);
+
+        // When
+        cacheInvalidationHandler.apply(invalidation);
+
+        // Then
+        verify(userPrincipalCache).evict("john.doe");
+        verify(tokenRevocationRegistry).revokeIssuedBefore(2L, occurredAt);
+        verifyNoInteractions(cacheManagerProvider, searchIndexUpdater);
+    }
+
+    @Test
+    @DisplayName("""
+            Clear every catalog cache and the principal cache and rebuild the search index
+            """)
+    void reset_ClearsAllLocalCaches() {
+        // Given
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        CatalogCacheNames.ALL.forEach(cacheName -> when(cacheManager.getCache(cacheName))
+                .thenReturn(cache));
+
+        // When
+        cacheInvalidationHandler.reset();
+
+        // Then
+        verify(cache, times(CatalogCacheNames.ALL.size())).clear();
+        verify(userPrincipalCache).clear();
+        verify(searchIndexUpdater).rebuild();
+        verifyNoInteractions(tokenRevocationRegistry);
+    }
+}
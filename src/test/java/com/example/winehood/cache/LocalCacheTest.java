@@ -0,0 +1,119 @@
+package com.example.winehood.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheTest {
+
+    @Test
+    @DisplayName("""
+            Load a missing value once and serve repeated reads from the cache
+            """)
+    void get_RepeatedReads_LoadsOnce() {
+        // Given
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("john.doe", key -> key + "-" + loads.incrementAndGet());
+        String actual = cache.get("john.doe", key -> key + "-" + loads.incrementAndGet());
+
+        // Then
+        assertEquals("john.doe-1", actual);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("""
+            Drop entries once their time to live has passed
+            """)
+    void getIfPresent_ExpiredEntry_ReturnsNull() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2025-04-12T12:30:00Z"));
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofSeconds(30), clock);
+        cache.put("john.doe", "principal");
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+
+        // Then
+        assertNull(cache.getIfPresent("john.doe"));
+        assertEquals(1, cache.evictionCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("""
+            Evict the least recently used entry when the cache is full
+            """)
+    void put_CacheFull_EvictsLeastRecentlyUsed() {
+        // Given
+        LocalCache<String, String> cache = new LocalCache<>(2, Duration.ofMinutes(1));
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.getIfPresent("first");
+
+        // When
+        cache.put("third", "3");
+
+        // Then
+        assertEquals("1", cache.getIfPresent("first"));
+        assertNull(cache.getIfPresent("second"));
+        assertEquals("3", cache.getIfPresent("third"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("""
+            Remove an entry on explicit eviction
+            """)
+    void evict_ExistingKey_RemovesEntry() {
+        // Given
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+        cache.put("john.doe", "principal");
+
+        // When
+        cache.evict("john.doe");
+
+        // Then
+        assertNull(cache.getIfPresent("john.doe"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
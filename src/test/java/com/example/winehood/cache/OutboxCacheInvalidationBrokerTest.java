@@ -0,0 +1,158 @@
+package com.example.winehood.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxCacheInvalidationBrokerTest {
+    private static final String NODE_ID = "node-a";
+    private static final String PEER_NODE_ID = "node-b";
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CacheInvalidationHandler cacheInvalidationHandler;
+    private OutboxCacheInvalidationBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new OutboxCacheInvalidationBroker(jdbcTemplate, cacheInvalidationHandler,
+                NODE_ID, 500, Duration.ofHours(1), Duration.ofMinutes(1), 3);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        broker.initializeCursor();
+    }
+
+    @Test
+    @DisplayName("""
+            Apply a lower id that commits after a higher one on the next poll
+            """)
+    void poll_LowerIdCommitsLate_AppliesInvalidation() {
+        // Given
+        Answer<List<Object>> committed = rows(1L, 3L);
+        Answer<List<Object>> committedLate = rows(2L);
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(0L), eq(500)))
+                .thenAnswer(committed);
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(3L), eq(500)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(contains("id IN (?)"), any(RowMapper.class), eq(2L)))
+                .thenAnswer(committedLate);
+
+        // When
+        broker.poll();
+        broker.poll();
+        broker.poll();
+
+        // Then
+        verify(cacheInvalidationHandler).apply(invalidation(1L));
+        verify(cacheInvalidationHandler).apply(invalidation(2L));
+        verify(cacheInvalidationHandler).apply(invalidation(3L));
+        verify(jdbcTemplate).query(contains("id IN (?)"), any(RowMapper.class), eq(2L));
+    }
+
+    @Test
+    @DisplayName("""
+            Skip invalidations written by this node without treating them as gaps
+            """)
+    void poll_OwnInvalidation_SkipsIt() {
+        // Given
+        Answer<List<Object>> committed = answer(List.of(row(1L, NODE_ID), row(2L, PEER_NODE_ID)));
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(0L), eq(500)))
+                .thenAnswer(committed);
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(2L), eq(500)))
+                .thenReturn(List.of());
+
+        // When
+        broker.poll();
+        broker.poll();
+
+        // Then
+        verify(cacheInvalidationHandler, never()).apply(invalidation(1L));
+        verify(cacheInvalidationHandler, times(1)).apply(invalidation(2L));
+        verify(jdbcTemplate, never()).query(contains("id IN"), any(RowMapper.class),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("""
+            Reset local caches when a gap is larger than the ids that can be tracked
+            """)
+    void poll_GapAboveLimit_ResetsLocalCaches() {
+        // Given
+        Answer<List<Object>> committed = rows(1L, 10L);
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(0L), eq(500)))
+                .thenAnswer(committed);
+        when(jdbcTemplate.query(contains("id > ?"), any(RowMapper.class), eq(10L), eq(500)))
+                .thenReturn(List.of());
+
+        // When
+        broker.poll();
+        broker.poll();
+
+        // Then
+        verify(cacheInvalidationHandler).reset();
+        verify(cacheInvalidationHandler).apply(invalidation(10L));
+        verify(jdbcTemplate, never()).query(contains("id IN"), any(RowMapper.class),
+                any(Object[].class));
+    }
+
+    private static Answer<List<Object>> rows(long... ids) {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (long id : ids) {
+            resultSets.add(row(id, PEER_NODE_ID));
+        }
+        return answer(resultSets);
+    }
+
+    private static Answer<List<Object>> answer(List<ResultSet> resultSets) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> received = new ArrayList<>();
+            for (ResultSet resultSet : resultSets) {
+                received.add(rowMapper.mapRow(resultSet, received.size()));
+            }
+            return received;
+        };
+    }
+
+    private static ResultSet row(long id, String nodeId) {
+        ResultSet resultSet = mock(ResultSet.class);
+        try {
+            when(resultSet.getLong("id")).thenReturn(id);
+            when(resultSet.getString("node_id")).thenReturn(nodeId);
+            when(resultSet.getString("type")).thenReturn(CacheInvalidation.Type.WINE.name());
+            when(resultSet.getLong("entity_id")).thenReturn(id);
+            when(resultSet.getTimestamp("occurred_at"))
+                    .thenReturn(Timestamp.from(Instant.EPOCH));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return resultSet;
+    }
+
+    private static CacheInvalidation invalidation(long entityId) {
+        return new CacheInvalidation(CacheInvalidation.Type.WINE, entityId, null, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.winehood.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TwoTierCacheTest {
+    private SharedCacheStore sharedCacheStore;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheStore = new InMemorySharedCacheStore();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("""
+            Promote a shared tier hit into the local tier of another node
+            """)
+    void get_ValueInSharedTierOnly_PromotesToLocalTier() {
+        // Given
+        TwoTierCache firstNode = getCache(new SimpleMeterRegistry());
+        TwoTierCache secondNode = getCache(meterRegistry);
+        firstNode.put(1L, "Opus One");
+
+        // When
+        Object fromShared = secondNode.get(1L).get();
+        Object fromLocal = secondNode.get(1L).get();
+
+        // Then
+        assertEquals("Opus One", fromShared);
+        assertEquals("Opus One", fromLocal);
+        assertEquals(1.0, meterRegistry.get("cache.shared.gets")
+                .tag("cache", "wine")
+                .tag("result", "hit")
+                .counter()
+                .count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "wine")
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    @DisplayName("""
+            Evict a key from both the local and the shared tier
+            """)
+    void evict_CachedKey_RemovesFromBothTiers() {
+        // Given
+        TwoTierCache cache = getCache(meterRegistry);
+        cache.put(1L, "Opus One");
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        assertNull(cache.get(1L));
+        assertNull(sharedCacheStore.get("wine", 1L));
+    }
+
+    @Test
+    @DisplayName("""
+            Load a missing value once and cache null results
+            """)
+    void get_MissingValue_LoadsOnce() {
+        // Given
+        TwoTierCache cache = getCache(meterRegistry);
+
+        // When
+        cache.get(1L, () -> null);
+        Object actual = cache.get(1L, () -> "Opus One");
+
+        // Then
+        assertNull(actual);
+        assertEquals(1.0, meterRegistry.get("cache.shared.gets")
+                .tag("cache", "wine")
+                .tag("result", "miss")
+                .counter()
+                .count());
+    }
+
+    private TwoTierCache getCache(MeterRegistry registry) {
+        return new TwoTierCache("wine", new LocalCache<>(10, Duration.ofMinutes(1)),
+                sharedCacheStore, Duration.ofMinutes(5), registry);
+    }
+}
@@ -3,14 +3,21 @@ package com.example.winehood.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.winehood.dto.order.BulkUpdateOrderStatusRequestDto;
 import com.example.winehood.dto.order.CreateOrderRequestDto;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderStatusUpdateResultDto;
 import com.example.winehood.dto.order.UpdateOrderRequestDto;
 import com.example.winehood.dto.orderitem.OrderItemDto;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -42,7 +49,10 @@ import org.springframework.web.context.WebApplicationContext;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class OrderControllerTest {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENCY_KEY = "6f1f3b0e-checkout";
     private static MockMvc mockMvc;
+    private static Long submittedOrderId;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,6 +82,8 @@ public class OrderControllerTest {
                     new ClassPathResource("database/orders/insert-into-orders.sql"));
             ScriptUtils.executeSqlScript(connection,
                     new ClassPathResource("database/orderitems/insert-into-order_items.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("db/changelog/sql/realign-id_generators.sql"));
         }
     }
 
@@ -127,6 +139,7 @@ public class OrderControllerTest {
         // When
         MvcResult result = mockMvc.perform(
                 post("/orders")
+                        .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isCreated())
@@ -137,6 +150,7 @@ public class OrderControllerTest {
                 result.getResponse().getContentAsByteArray(), OrderDto.class);
         assertNotNull(actual);
         assertEquals("123 Main Street, Cityville", actual.shippingAddress());
+        submittedOrderId = actual.id();
     }
 
     @Test
@@ -172,7 +186,7 @@ public class OrderControllerTest {
     void updateOrderStatus_ValidRequest_ReturnsUpdatedOrderDto() throws Exception {
         // Given
         UpdateOrderRequestDto requestDto = new UpdateOrderRequestDto(
-                com.example.winehood.model.Order.Status.SHIPPING);
+                com.example.winehood.model.Order.Status.CONFIRMED);
         String jsonRequest = objectMapper.writeValueAsString(requestDto);
 
         // When
@@ -186,7 +200,7 @@ public class OrderControllerTest {
         // Then
         OrderDto updatedOrder = objectMapper.readValue(
                 result.getResponse().getContentAsByteArray(), OrderDto.class);
-        assertEquals(com.example.winehood.model.Order.Status.SHIPPING,
+        assertEquals(com.example.winehood.model.Order.Status.CONFIRMED,
                 updatedOrder.status());
     }
 
@@ -235,4 +249,200 @@ public class OrderControllerTest {
         // Then
         assertNotNull(orderItem);
     }
+
+    @Test
+    @Order(6)
+    @WithUserDetails(value = "john.doe",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Replay submitted order when the idempotency key is repeated")
+    void submitOrder_RepeatedIdempotencyKey_ReturnsOriginalOrderDto() throws Exception {
+        // Given
+        CreateOrderRequestDto requestDto = new CreateOrderRequestDto(
+                LocalDateTime.of(2025, 4, 12, 14, 0, 0),
+                "123 Main Street, Cityville"
+        );
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        // When
+        MvcResult result = mockMvc.perform(
+                post("/orders")
+                        .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Then
+        OrderDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), OrderDto.class);
+        assertEquals(submittedOrderId, actual.id());
+        assertEquals("123 Main Street, Cityville", actual.shippingAddress());
+    }
+
+    @Test
+    @Order(7)
+    @WithUserDetails(value = "john.doe",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Reject a different order submitted with a used idempotency key")
+    void submitOrder_IdempotencyKeyWithDifferentRequest_ReturnsBadRequest() throws Exception {
+        // Given
+        CreateOrderRequestDto requestDto = new CreateOrderRequestDto(
+                LocalDateTime.of(2025, 4, 12, 14, 0, 0),
+                "456 Other Street, Cityville"
+        );
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        // When
+        mockMvc.perform(
+                post("/orders")
+                        .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(8)
+    @WithUserDetails(value = "admin",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Update status of several orders at once")
+    void updateOrderStatuses_MixedOrders_ReturnsOutcomePerOrder() throws Exception {
+        // Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(
+                List.of(1L, 2L, 99L),
+                com.example.winehood.model.Order.Status.CONFIRMED,
+                com.example.winehood.model.Order.Status.SHIPPING);
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        // When
+        MvcResult result = mockMvc.perform(
+                put("/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        List<OrderStatusUpdateResultDto> actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(),
+                objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, OrderStatusUpdateResultDto.class));
+        assertEquals(List.of(
+                OrderStatusUpdateResultDto.Outcome.UPDATED,
+                OrderStatusUpdateResultDto.Outcome.STATUS_MISMATCH,
+                OrderStatusUpdateResultDto.Outcome.NOT_FOUND),
+                actual.stream()
+                        .map(OrderStatusUpdateResultDto::outcome)
+                        .toList());
+    }
+
+    @Test
+    @Order(9)
+    @WithUserDetails(value = "john.doe",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Get a slice of user orders without a total count")
+    void getOrderSlice_ExistingUser_ReturnsOrderSlice() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(
+                get("/orders")
+                        .param("mode", "slice")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        JsonNode root = objectMapper.readTree(result.getResponse().getContentAsString());
+        List<OrderDto> orders = objectMapper.readValue(
+                root.get("content").toString(),
+                objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, OrderDto.class));
+        assertEquals(1, orders.size());
+        assertFalse(root.path("last").asBoolean());
+        assertTrue(root.path("totalElements").isMissingNode());
+    }
+
+    @Test
+    @Order(10)
+    @WithUserDetails(value = "john.doe",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Get a slice of order items without a total count")
+    void getOrderItemSlice_ExistingOrderId_ReturnsOrderItemSlice() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(
+                get("/orders/1/items")
+                        .param("mode", "slice")
+                        .param("size", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        JsonNode root = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(2, root.path("content").size());
+        assertTrue(root.path("last").asBoolean());
+        assertTrue(root.path("totalElements").isMissingNode());
+    }
+
+    @Test
+    @Order(11)
+    @WithUserDetails(value = "admin",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Export orders within a date range as CSV with a row per order item")
+    void exportOrders_CsvFormat_StreamsOrderItemRows() throws Exception {
+        // Given
+        MvcResult asyncResult = mockMvc.perform(
+                get("/orders/export")
+                        .param("from", "2025-04-09")
+                        .param("to", "2025-04-11")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"orders.csv\""))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("order_id,user_id,order_date,status,total,shipping_address,"
+                + "order_item_id,wine_id,quantity", lines[0]);
+        assertTrue(lines[1].startsWith("3,4,2025-04-09T09:00,CANCELED,"));
+        assertTrue(lines[1].endsWith(",,,"));
+    }
+
+    @Test
+    @Order(12)
+    @WithUserDetails(value = "admin",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("Export orders with the given status as NDJSON with a line per order")
+    void exportOrders_NdjsonFormatWithStatus_StreamsMatchingOrders() throws Exception {
+        // Given
+        MvcResult asyncResult = mockMvc.perform(
+                get("/orders/export")
+                        .param("from", "2025-04-09")
+                        .param("to", "2025-04-11")
+                        .param("status", "COMPLETED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(1, lines.length);
+        OrderDto actual = objectMapper.readValue(lines[0], OrderDto.class);
+        assertEquals(2L, actual.id());
+        assertEquals(1, actual.orderItems().size());
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.winehood.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -213,6 +214,38 @@ class ReviewControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("""
+            Get a slice of reviews by wine id without a total count
+            """)
+    @WithMockUser(username = "john.doe")
+    void getReviewSliceByWineId_ExistingWineId_ReturnsReviewDtoSlice()
+            throws Exception {
+        // Given
+        long wineId = 1L;
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/reviews")
+                                .param("wineId", Long.toString(wineId))
+                                .param("mode", "slice")
+                                .param("page", "0")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        JsonNode root = objectMapper.readTree(result.getResponse().getContentAsString());
+        List<ReviewDto> actualList = Arrays.asList(
+                objectMapper.treeToValue(root.path("content"), ReviewDto[].class));
+        assertEquals(2, actualList.size());
+        assertFalse(root.path("last").asBoolean());
+        assertTrue(root.path("totalElements").isMissingNode());
+    }
+
     private CreateReviewRequestDto getCreateReviewRequestDto() {
         return new CreateReviewRequestDto(
                 1L,
@@ -279,6 +279,45 @@ public class ShoppingCartControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @Order(8)
+    @DisplayName("""
+            Delete several wines from ShoppingCart at once
+            """)
+    @WithUserDetails(value = "john.doe",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    void deleteWinesFromShoppingCart_ExistingCartItemIds_ReturnsNothing() throws Exception {
+        //Given
+        mockMvc.perform(
+                        post("/cart")
+                                .content(objectMapper.writeValueAsString(
+                                        getCreateCartItemRequestDto()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isCreated());
+
+        //When
+        mockMvc.perform(
+                        delete("/cart/items")
+                                .param("ids", "1", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNoContent());
+
+        //Then
+        MvcResult result = mockMvc.perform(
+                        get("/cart")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        ShoppingCartDto actual = objectMapper.readValue(
+                result.getResponse()
+                        .getContentAsByteArray(), ShoppingCartDto.class
+        );
+        assertTrue(actual.getCartItems().isEmpty());
+    }
+
     private ShoppingCartDto getShoppingCartDto() {
         return new ShoppingCartDto()
                 .setId(4L)
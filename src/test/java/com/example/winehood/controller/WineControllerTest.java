@@ -2,17 +2,24 @@ package com.example.winehood.controller;
 
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineCursorPageDto;
 import com.example.winehood.dto.wine.WineDto;
+import com.example.winehood.dto.wine.WineImportErrorDto;
+import com.example.winehood.dto.wine.WineImportResultDto;
+import com.example.winehood.dto.wine.WineSearchHitDto;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
@@ -33,7 +40,9 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,6 +56,8 @@ class WineControllerTest {
     private static MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @BeforeAll
     static void beforeAll(
@@ -213,6 +224,16 @@ class WineControllerTest {
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void deleteWine_ExistingWineId_ReturnsNothing()
             throws Exception {
+        // Given
+        String collectionEtag = mockMvc.perform(
+                        get("/wines")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
         // When
         MvcResult result = mockMvc.perform(
                         delete("/wines/1")
@@ -224,6 +245,216 @@ class WineControllerTest {
         // Then
         String actual = result.getResponse().getContentAsString();
         assertTrue(actual.isEmpty());
+        String actualCollectionEtag = mockMvc.perform(
+                        get("/wines")
+                                .header(HttpHeaders.IF_NONE_MATCH, collectionEtag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(collectionEtag, actualCollectionEtag);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("""
+                Scroll all wines page by page with a continuation cursor
+                """)
+    @WithMockUser(username = "user")
+    void scrollAll_CursorMode_ReturnsPagesInNameOrder()
+            throws Exception {
+        // When
+        MvcResult firstResult = mockMvc.perform(
+                        get("/wines")
+                                .param("mode", "cursor")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        WineCursorPageDto firstPage = objectMapper.readValue(
+                firstResult.getResponse().getContentAsByteArray(), WineCursorPageDto.class);
+
+        MvcResult secondResult = mockMvc.perform(
+                        get("/wines")
+                                .param("mode", "cursor")
+                                .param("size", "2")
+                                .param("cursor", firstPage.nextCursor())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        WineCursorPageDto secondPage = objectMapper.readValue(
+                secondResult.getResponse().getContentAsByteArray(), WineCursorPageDto.class);
+
+        // Then
+        assertEquals(List.of("Sauvignon Blanc", "Wine B"),
+                firstPage.content().stream().map(WineDto::getName).toList());
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(List.of("Wine C"),
+                secondPage.content().stream().map(WineDto::getName).toList());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("""
+                Search wines within a price range sorted by price descending
+                """)
+    @WithMockUser(username = "user")
+    void searchWines_PriceRange_ReturnsMatchingWines()
+            throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/wines/search")
+                                .param("minPrice", "24")
+                                .param("maxPrice", "30")
+                                .param("sort", "price,desc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        JsonNode contentNode = objectMapper.readTree(
+                result.getResponse().getContentAsString()).path("content");
+        List<WineDto> actualList = Arrays.asList(
+                objectMapper.treeToValue(contentNode, WineDto[].class));
+        assertEquals(List.of("Wine B", "Wine C"),
+                actualList.stream().map(WineDto::getName).toList());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("""
+                Search wines by free text with a typo in the query
+                """)
+    @WithMockUser(username = "user")
+    void searchWinesByText_QueryWithTypo_ReturnsRankedHits()
+            throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/wines/search")
+                                .param("q", "sauvignon blnc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        List<WineSearchHitDto> actualList = Arrays.asList(objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), WineSearchHitDto[].class));
+        assertEquals(1, actualList.size());
+        assertEquals("Sauvignon Blanc", actualList.getFirst().name());
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("""
+                Get wine by id with a matching ETag returns not modified
+                """)
+    @WithMockUser(username = "user")
+    void getById_MatchingETag_ReturnsNotModified()
+            throws Exception {
+        // Given
+        String etag = mockMvc.perform(
+                        get("/wines/2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/wines/2")
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        // Then
+        assertEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(result.getResponse().getContentAsString().isEmpty());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("""
+                Import wines from CSV updating existing ones and reporting invalid rows
+                """)
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importWines_CsvStream_UpsertsWinesAndReportsErrors()
+            throws Exception {
+        // Given
+        String csv = """
+                name,price,grape_variety,region_id,stock
+                Wine B,35.00,Cabernet Sauvignon,1,50
+                Wine E,18.00,Riesling,2,10
+                Wine F,18.00,Riesling,99,10
+                """;
+        WineImportResultDto expected = new WineImportResultDto(3, 2, 1, List.of(
+                new WineImportErrorDto(3, "Can't find region by id: 99")), List.of());
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        post("/wines/import")
+                                .param("format", "CSV")
+                                .content(csv)
+                                .contentType("text/csv")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        WineImportResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), WineImportResultDto.class);
+        assertEquals(expected, actual);
+        WineDto updated = objectMapper.readValue(mockMvc.perform(
+                        get("/wines/2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray(), WineDto.class);
+        assertEquals(0, BigDecimal.valueOf(35.00).compareTo(updated.getPrice()));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("""
+                Import wines from CSV without a stock column keeping their current stock
+                """)
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importWines_CsvStreamWithoutStock_KeepsStock()
+            throws Exception {
+        // Given
+        String csv = """
+                name,price,grape_variety,region_id
+                Wine B,36.00,Cabernet Sauvignon,1
+                Wine G,18.00,Riesling,2
+                """;
+
+        // When
+        mockMvc.perform(
+                        post("/wines/import")
+                                .param("format", "CSV")
+                                .content(csv)
+                                .contentType("text/csv")
+                )
+                .andExpect(status().isOk());
+
+        // Then
+        assertEquals(50, jdbcTemplate.queryForObject(
+                "SELECT stock FROM wines WHERE id = 2", Integer.class));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT stock FROM wines WHERE name = 'Wine G'", Integer.class));
     }
 
     private List<WineDto> getWineDtoList() {
@@ -233,19 +464,22 @@ class WineControllerTest {
                         .setName("Wine A")
                         .setPrice(BigDecimal.valueOf(20.00))
                         .setGrapeVariety("Merlot")
-                        .setRegionId(1L),
+                        .setRegionId(1L)
+                        .setRatingCount(0L),
                 new WineDto()
                         .setId(2L)
                         .setName("Wine B")
                         .setPrice(BigDecimal.valueOf(30.00))
                         .setGrapeVariety("Cabernet Sauvignon")
-                        .setRegionId(1L),
+                        .setRegionId(1L)
+                        .setRatingCount(0L),
                 new WineDto()
                         .setId(3L)
                         .setName("Wine C")
                         .setPrice(BigDecimal.valueOf(25.00))
                         .setGrapeVariety("Pinot Noir")
                         .setRegionId(2L)
+                        .setRatingCount(0L)
         );
     }
 
@@ -255,12 +489,14 @@ class WineControllerTest {
                         "Sauvignon Blanc",
                         BigDecimal.valueOf(22.00),
                         "Sauvignon Blanc",
-                        3L),
+                        3L,
+                        100),
                 new CreateWineRequestDto(
                         "Cabernet Sauvignon",
                         BigDecimal.valueOf(30.00),
                         "Cabernet Sauvignon",
-                        1L)
+                        1L,
+                        100)
         );
     }
 
@@ -270,6 +506,7 @@ class WineControllerTest {
                 .setName(requestDto.name())
                 .setPrice(requestDto.price())
                 .setGrapeVariety(requestDto.grapeVariety())
-                .setRegionId(requestDto.regionId());
+                .setRegionId(requestDto.regionId())
+                .setRatingCount(0L);
     }
 }
@@ -0,0 +1,83 @@
+package com.example.winehood.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("""
+            Set the pin cookie on a write before the response is produced
+            """)
+    void doFilter_Write_SetsPinCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<Boolean> setBeforeChain = new ArrayList<>();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest servletRequest,
+                                 ServletResponse servletResponse) {
+                setBeforeChain.add(response.getCookie(
+                        ReadYourWritesFilter.PIN_COOKIE) != null);
+            }
+        });
+
+        // Then
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.PIN_COOKIE);
+        assertNotNull(cookie);
+        assertEquals(5, cookie.getMaxAge());
+        assertEquals(List.of(true), setBeforeChain);
+    }
+
+    @Test
+    @DisplayName("""
+            Pin reads carrying an unexpired cookie to the primary and ignore expired ones
+            """)
+    void doFilter_ReadWithCookie_PinsToPrimaryUntilExpiry() throws Exception {
+        // Given
+        String future = String.valueOf(Instant.now().plusSeconds(5).toEpochMilli());
+        String past = String.valueOf(Instant.now().minusSeconds(1).toEpochMilli());
+
+        // When
+        boolean pinned = isPinnedDuring(new Cookie(ReadYourWritesFilter.PIN_COOKIE, future));
+        boolean expired = isPinnedDuring(new Cookie(ReadYourWritesFilter.PIN_COOKIE, past));
+
+        // Then
+        assertTrue(pinned);
+        assertFalse(expired);
+        assertFalse(ReadYourWritesContext.isPinnedToPrimary());
+    }
+
+    private boolean isPinnedDuring(Cookie cookie) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+        request.setCookies(cookie);
+        List<Boolean> pinned = new ArrayList<>();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest servletRequest,
+                                 ServletResponse servletResponse) {
+                pinned.add(ReadYourWritesContext.isPinnedToPrimary());
+            }
+        });
+        return pinned.get(0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.winehood.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String SELECT_NODE = "SELECT name FROM node";
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(
+                createDatabase("primary"),
+                List.of(createDatabase("replica-a"), createDatabase("replica-b")));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("""
+            Read-write transactions and non-transactional calls use the primary
+            """)
+    void readWriteTransaction_UsesPrimary() {
+        // When
+        String inTransaction = readWriteTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+        String withoutTransaction = jdbcTemplate.queryForObject(SELECT_NODE, String.class);
+
+        // Then
+        assertEquals("primary", inTransaction);
+        assertEquals("primary", withoutTransaction);
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transactions are spread across the replicas
+            """)
+    void readOnlyTransaction_RotatesAcrossReplicas() {
+        // When
+        String first = readOnlyTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+        String second = readOnlyTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+
+        // Then
+        assertEquals(List.of("replica-a", "replica-b"), List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transactions pinned for read-your-writes use the primary
+            """)
+    void readOnlyTransaction_PinnedToPrimary_UsesPrimary() {
+        // Given
+        ReadYourWritesContext.pinToPrimary();
+
+        // When
+        String actual = readOnlyTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+
+        // Then
+        assertEquals("primary", actual);
+    }
+
+    private DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(32))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.winehood.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import com.example.winehood.model.CartItem;
@@ -97,6 +98,38 @@ public class CartItemRepositoryTest {
         assertThat(actual).isEmpty();
     }
 
+    @Test
+    @DisplayName("""
+            Delete all cart items of a shopping cart with a single statement
+            """)
+    @Sql(scripts = {
+            "classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql",
+            "classpath:database/shoppingcarts/insert-into-shopping_carts.sql",
+            "classpath:database/cartitems/insert-into-cart_items.sql",},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts = {
+            "classpath:database/cartitems/delete-all-from-cart_items.sql",
+            "classpath:database/shoppingcarts/delete-all-from-shopping_carts.sql",
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+    )
+    void deleteAllByShoppingCartId_ExistedShoppingCartId_DeletesCartItems() {
+        // When
+        int deleted = cartItemRepository.deleteAllByShoppingCartId(4L);
+
+        // Then
+        assertEquals(1, deleted);
+        assertThat(cartItemRepository.findListByShoppingCartId(4L, Pageable.ofSize(5)))
+                .isEmpty();
+    }
+
     private Wine getWine() {
         return new Wine()
                 .setId(1L)
@@ -0,0 +1,56 @@
+package com.example.winehood.repository;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+public class ExecutedStatementRecorder implements QueryInterceptor {
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    public static synchronized void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static synchronized List<String> getStatements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection connection, Properties properties, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        String statement = sql.get().strip();
+        if (statement.toLowerCase(Locale.ROOT).startsWith("select")) {
+            synchronized (ExecutedStatementRecorder.class) {
+                STATEMENTS.add(statement);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+            T originalResultSet, ServerSession serverSession) {
+        return null;
+    }
+}
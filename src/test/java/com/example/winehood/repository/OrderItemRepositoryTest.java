@@ -1,13 +1,25 @@
 package com.example.winehood.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.winehood.model.Order;
 import com.example.winehood.model.OrderItem;
+import com.example.winehood.model.Wine;
 import com.example.winehood.repository.orderitem.OrderItemRepository;
+import com.example.winehood.repository.orderitem.OrderItemView;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +39,9 @@ public class OrderItemRepositoryTest {
     @Autowired
     private OrderItemRepository orderItemRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeAll
     static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
@@ -87,4 +102,94 @@ public class OrderItemRepositoryTest {
         assertNotNull(actual);
         assertThat(actual.getContent()).isEmpty();
     }
+
+    @Test
+    @DisplayName("""
+            Find order item views of several orders with a single query
+            """)
+    @Sql(scripts = {
+            "classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql",
+            "classpath:database/orders/insert-into-orders.sql",
+            "classpath:database/orderitems/insert-into-order_items.sql",},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts = {
+            "classpath:database/orderitems/delete-all-from-order_items.sql",
+            "classpath:database/orders/delete-all-from-orders.sql",
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+    )
+    void findAllViewsByOrderIdIn_ExistedOrderIds_ReturnsItemsInSingleQuery() {
+        // Given
+        Statistics statistics = entityManager.unwrap(Session.class)
+                .getSessionFactory()
+                .getStatistics();
+        statistics.clear();
+
+        // When
+        List<OrderItemView> actual = orderItemRepository
+                .findAllViewsByOrderIdIn(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertThat(actual)
+                .extracting(OrderItemView::getId, OrderItemView::getOrderId,
+                        OrderItemView::getWineId, OrderItemView::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 1L, 1L, 3),
+                        tuple(2L, 2L, 2L, 2),
+                        tuple(3L, 1L, 3L, 5));
+    }
+
+    @Test
+    @DisplayName("""
+            Save many order items with a single batched insert
+            """)
+    @Sql(scripts = {
+            "classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql",
+            "classpath:database/orders/insert-into-orders.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts = {
+            "classpath:database/orderitems/delete-all-from-order_items.sql",
+            "classpath:database/orders/delete-all-from-orders.sql",
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+    )
+    void saveAll_ManyOrderItems_InsertsInSingleBatch() {
+        // Given
+        Order order = entityManager.getReference(Order.class, 1L);
+        Wine wine = entityManager.getReference(Wine.class, 1L);
+        List<OrderItem> orderItems = IntStream.range(0, 20)
+                .mapToObj(index -> new OrderItem()
+                        .setOrder(order)
+                        .setWine(wine)
+                        .setQuantity(1)
+                        .setPrice(BigDecimal.valueOf(20.0)))
+                .toList();
+        Statistics statistics = entityManager.unwrap(Session.class)
+                .getSessionFactory()
+                .getStatistics();
+        statistics.clear();
+
+        // When
+        orderItemRepository.saveAll(orderItems);
+        orderItemRepository.flush();
+
+        // Then
+        assertEquals(20, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3);
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.winehood.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class QueryPlanVerifier {
+    private static final List<String> UNINDEXED_EXTRA = List.of(
+            "Using filesort", "Using temporary");
+    private final JdbcTemplate jdbcTemplate;
+
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<String> findUnindexedAccess(Collection<String> statements) {
+        return statements.stream()
+                .distinct()
+                .flatMap(sql -> jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                        .filter(row -> row.get("table") != null)
+                        .filter(this::isUnindexed)
+                        .map(row -> describe(row, sql)))
+                .toList();
+    }
+
+    private boolean isUnindexed(Map<String, Object> row) {
+        String extra = Objects.toString(row.get("Extra"), "");
+        return row.get("key") == null || UNINDEXED_EXTRA.stream().anyMatch(extra::contains);
+    }
+
+    private String describe(Map<String, Object> row, String sql) {
+        return "%s (type=%s, key=%s, Extra=%s) in %s".formatted(row.get("table"),
+                row.get("type"), row.get("key"), row.get("Extra"), sql);
+    }
+}
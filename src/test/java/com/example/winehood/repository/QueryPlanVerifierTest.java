@@ -0,0 +1,109 @@
+package com.example.winehood.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.winehood.repository.cartitem.CartItemRepository;
+import com.example.winehood.repository.order.OrderRepository;
+import com.example.winehood.repository.orderitem.OrderItemRepository;
+import com.example.winehood.repository.review.ReviewRepository;
+import com.example.winehood.repository.wine.WineRepository;
+import com.example.winehood.repository.wine.spec.GrapeVarietySpecificationProvider;
+import com.example.winehood.repository.wine.spec.NameSpecificationProvider;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:tc:mysql:8.4.0:///testdb"
+        + "?queryInterceptors=com.example.winehood.repository.ExecutedStatementRecorder")
+public class QueryPlanVerifierTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WineRepository wineRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    private QueryPlanVerifier queryPlanVerifier;
+
+    @BeforeAll
+    static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/delete-all-data-before-tests.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/queryplans/insert-representative-rows.sql"));
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/queryplans/delete-representative-rows.sql"));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        queryPlanVerifier = new QueryPlanVerifier(jdbcTemplate);
+        ExecutedStatementRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("""
+            Every statement issued by the repository finders reads through an index
+            when the joined tables hold representative row counts
+            """)
+    void findUnindexedAccess_RepositoryFinders_ReturnsEmptyList() {
+        // Given
+        Pageable pageable = Pageable.ofSize(5);
+        wineRepository.findAllByRegionId(1L, pageable);
+        wineRepository.findAll(new NameSpecificationProvider()
+                .getSpecification(new String[]{"Wine 1", "Wine 2"}), pageable);
+        wineRepository.findAll(new GrapeVarietySpecificationProvider()
+                .getSpecification(new String[]{"Merlot", "Pinot Noir"}), pageable);
+        reviewRepository.findAllByWineId(1L, pageable);
+        orderRepository.findAllByUserId(1L, pageable);
+        orderItemRepository.findAllByOrderId(1L, pageable);
+        cartItemRepository.findListByShoppingCartId(1L, pageable);
+        List<String> statements = ExecutedStatementRecorder.getStatements();
+
+        // When
+        List<String> unindexedAccess = queryPlanVerifier.findUnindexedAccess(statements);
+
+        // Then
+        assertFalse(statements.isEmpty());
+        assertTrue(unindexedAccess.isEmpty(), "Unindexed access: " + unindexedAccess);
+    }
+}
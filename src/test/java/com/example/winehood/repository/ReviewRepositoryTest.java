@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.example.winehood.repository.review.ReviewRepository;
+import com.example.winehood.repository.review.ReviewView;
 import java.sql.Connection;
 import java.sql.SQLException;
 import javax.sql.DataSource;
@@ -15,7 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -92,4 +96,40 @@ public class ReviewRepositoryTest {
         assertNotNull(reviewPage);
         assertEquals(0, reviewPage.getTotalElements());
     }
+
+    @Test
+    @DisplayName("""
+            Find review projections by wineId when wine exists
+            """)
+    @Sql(scripts = {
+            "classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql",
+            "classpath:database/reviews/insert-into-reviews.sql" },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/reviews/delete-all-from-reviews.sql",
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAllViewsByWineId_ExistingWineId_ReturnsReviewViewPage() {
+        // Given
+        Long wineId = 1L;
+
+        // When
+        Page<ReviewView> reviewPage = reviewRepository.findAllViewsByWineId(
+                wineId, PageRequest.of(0, 5, Sort.by("id")));
+
+        // Then
+        assertEquals(2, reviewPage.getTotalElements());
+        ReviewView first = reviewPage.getContent().getFirst();
+        assertEquals(1L, first.getId());
+        assertEquals(wineId, first.getWineId());
+        assertEquals(3L, first.getUserId());
+        assertEquals(5.0, first.getRating());
+        assertEquals("Excellent wine with rich flavor", first.getText());
+    }
 }
@@ -4,10 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.winehood.model.Wine;
 import com.example.winehood.repository.wine.WineRepository;
+import com.example.winehood.repository.wine.spec.MinRatingSpecificationProvider;
+import jakarta.persistence.EntityManagerFactory;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -26,6 +34,9 @@ public class WineRepositoryTest {
     @Autowired
     private WineRepository wineRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeAll
     static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
@@ -83,4 +94,86 @@ public class WineRepositoryTest {
         assertNotNull(winePage);
         assertEquals(0, winePage.getTotalElements());
     }
+
+    @Test
+    @DisplayName("""
+            Add ratings to an existing wine and accumulate the aggregates
+            """)
+    @Sql(scripts = {
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql" },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void addRating_ExistingWineId_AccumulatesRatingAggregates() {
+        // Given
+        Long wineId = 1L;
+
+        // When
+        wineRepository.addRating(wineId, 5.0);
+        wineRepository.addRating(wineId, 4.0);
+        Wine actual = wineRepository.findById(wineId).orElseThrow();
+
+        // Then
+        assertEquals(2L, actual.getRatingCount());
+        assertEquals(9.0, actual.getRatingSum());
+        assertEquals(4.5, actual.getAverageRating());
+    }
+
+    @Test
+    @DisplayName("""
+            Find wines with an average rating above the minimum
+            """)
+    @Sql(scripts = {
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql" },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAll_MinRatingSpecification_ReturnsRatedWines() {
+        // Given
+        wineRepository.addRating(1L, 5.0);
+        wineRepository.addRating(2L, 3.0);
+        Specification<Wine> spec = new MinRatingSpecificationProvider()
+                .getSpecification(new String[]{"4.0"});
+
+        // When
+        List<Wine> actual = wineRepository.findAll(spec);
+
+        // Then
+        assertEquals(1, actual.size());
+        assertEquals(1L, actual.getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("""
+            Find a page of wines with their regions in one select plus the count query
+            """)
+    @Sql(scripts = {
+            "classpath:database/regions/insert-into-regions.sql",
+            "classpath:database/wines/insert-into-wines.sql" },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/wines/delete-all-from-wines.sql",
+            "classpath:database/regions/delete-all-from-regions.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAll_PageOfWines_FetchesRegionsWithoutExtraQueries() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // When
+        Page<Wine> winePage = wineRepository.findAll(
+                Specification.where(null), Pageable.ofSize(2));
+        winePage.getContent().forEach(wine -> wine.getRegion().getName());
+
+        // Then
+        assertEquals(2, winePage.getContent().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
 }
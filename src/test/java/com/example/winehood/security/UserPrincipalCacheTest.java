@@ -0,0 +1,45 @@
+package com.example.winehood.security;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.example.winehood.service.user.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class UserPrincipalCacheTest {
+    private final UserPrincipalCache userPrincipalCache = new UserPrincipalCache(
+            100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("""
+            Reload every changed username once the user change is committed
+            """)
+    void onUserChanged_ChangedUsernames_EvictsPrincipals() {
+        // Given
+        userPrincipalCache.get("john.doe", this::getUserDetails);
+        userPrincipalCache.get("john.smith", this::getUserDetails);
+        UserDetails reloaded = getUserDetails("john.doe");
+        UserDetails renamed = getUserDetails("john.smith");
+
+        // When
+        userPrincipalCache.onUserChanged(new UserChangedEvent(
+                4L, List.of("john.doe", "john.smith"), Instant.now()));
+
+        // Then
+        assertSame(reloaded, userPrincipalCache.get("john.doe", username -> reloaded));
+        assertSame(renamed, userPrincipalCache.get("john.smith", username -> renamed));
+    }
+
+    private UserDetails getUserDetails(String username) {
+        return User.withUsername(username)
+                .password("password")
+                .roles("USER")
+                .build();
+    }
+}
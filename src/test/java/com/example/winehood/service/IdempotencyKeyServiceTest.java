@@ -0,0 +1,171 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.example.winehood.dto.order.CreateOrderRequestDto;
+import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.exception.ConflictException;
+import com.example.winehood.exception.DataProcessingException;
+import com.example.winehood.model.IdempotencyKey;
+import com.example.winehood.model.Order;
+import com.example.winehood.repository.idempotency.IdempotencyKeyRepository;
+import com.example.winehood.service.idempotency.IdempotencyKeyServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.util.DigestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyServiceTest {
+    private static final String KEY = "checkout-1";
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final CreateOrderRequestDto requestDto = new CreateOrderRequestDto(
+            LocalDateTime.of(2025, 4, 12, 14, 0, 0), "123 Main Street, Cityville");
+    private IdempotencyKeyServiceImpl idempotencyKeyService;
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyService = new IdempotencyKeyServiceImpl(
+                idempotencyKeyRepository, objectMapper, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("""
+            Run the action and store its response for a new idempotency key
+            """)
+    void execute_NewKey_StoresResponse() throws Exception {
+        // Given
+        OrderDto orderDto = getOrderDto();
+        IdempotencyKey stored = new IdempotencyKey();
+        when(idempotencyKeyRepository.findByUserIdAndKey(1L, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.insertIfAbsent(eq(1L), eq(KEY), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(idempotencyKeyRepository.findLockedByUserIdAndKey(1L, KEY))
+                .thenReturn(Optional.of(stored));
+
+        // When
+        OrderDto actual = idempotencyKeyService.execute(
+                1L, KEY, requestDto, OrderDto.class, () -> orderDto);
+
+        // Then
+        assertEquals(orderDto, actual);
+        assertEquals(objectMapper.writeValueAsString(orderDto), stored.getResponse());
+    }
+
+    @Test
+    @DisplayName("""
+            Return the response stored by a concurrent request that claimed the key first
+            """)
+    void execute_KeyClaimedConcurrently_ReturnsStoredResponse() throws Exception {
+        // Given
+        OrderDto orderDto = getOrderDto();
+        when(idempotencyKeyRepository.findByUserIdAndKey(1L, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.insertIfAbsent(eq(1L), eq(KEY), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(idempotencyKeyRepository.findLockedByUserIdAndKey(1L, KEY))
+                .thenReturn(Optional.of(getIdempotencyKey(requestDto, orderDto)));
+
+        // When
+        OrderDto actual = idempotencyKeyService.execute(1L, KEY, requestDto, OrderDto.class,
+                () -> {
+                    throw new IllegalStateException("Action must not be repeated");
+                });
+
+        // Then
+        assertEquals(orderDto, actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Report a conflict while a concurrent request with the same key is still running
+            """)
+    void execute_KeyLockedByRunningRequest_ThrowsConflict() {
+        // Given
+        when(idempotencyKeyRepository.findByUserIdAndKey(1L, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.insertIfAbsent(eq(1L), eq(KEY), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenThrow(new PessimisticLockingFailureException("Lock wait timeout"));
+
+        // When
+        Exception actual = assertThrows(ConflictException.class,
+                () -> idempotencyKeyService.execute(1L, KEY, requestDto, OrderDto.class,
+                        this::getOrderDto));
+
+        // Then
+        assertEquals("Request with idempotency key checkout-1 is still in progress",
+                actual.getMessage());
+    }
+
+    @Test
+    @DisplayName("""
+            Return the stored response without running the action for a repeated key
+            """)
+    void execute_RepeatedKey_ReturnsStoredResponse() throws Exception {
+        // Given
+        OrderDto orderDto = getOrderDto();
+        when(idempotencyKeyRepository.findByUserIdAndKey(1L, KEY))
+                .thenReturn(Optional.of(getIdempotencyKey(requestDto, orderDto)));
+
+        // When
+        OrderDto actual = idempotencyKeyService.execute(1L, KEY, requestDto, OrderDto.class,
+                () -> {
+                    throw new IllegalStateException("Action must not be repeated");
+                });
+
+        // Then
+        assertEquals(orderDto, actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a different request sent with an already used key
+            """)
+    void execute_RepeatedKeyWithDifferentRequest_ThrowsException() throws Exception {
+        // Given
+        CreateOrderRequestDto otherRequestDto = new CreateOrderRequestDto(
+                LocalDateTime.of(2025, 4, 12, 14, 0, 0), "456 Other Street, Cityville");
+        when(idempotencyKeyRepository.findByUserIdAndKey(1L, KEY))
+                .thenReturn(Optional.of(getIdempotencyKey(requestDto, getOrderDto())));
+
+        // Then
+        assertThrows(DataProcessingException.class,
+                () -> idempotencyKeyService.execute(1L, KEY, otherRequestDto, OrderDto.class,
+                        this::getOrderDto));
+    }
+
+    private IdempotencyKey getIdempotencyKey(CreateOrderRequestDto request, OrderDto response)
+            throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        return new IdempotencyKey()
+                .setId(1L)
+                .setUserId(1L)
+                .setKey(KEY)
+                .setRequestHash(DigestUtils.md5DigestAsHex(
+                        objectMapper.writeValueAsBytes(request)))
+                .setResponse(objectMapper.writeValueAsString(response))
+                .setCreatedAt(now)
+                .setExpiresAt(now.plusHours(24));
+    }
+
+    private OrderDto getOrderDto() {
+        return new OrderDto(1L, 1L, LocalDateTime.of(2025, 4, 12, 14, 0, 0), Set.of(),
+                Order.Status.PENDING, BigDecimal.valueOf(120.0), "123 Main Street, Cityville");
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.winehood.dto.order.CreateOrderRequestDto;
+import com.example.winehood.exception.DataProcessingException;
+import com.example.winehood.service.order.OrderService;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+@SpringBootTest
+class OrderCheckoutConcurrencyTest {
+    private static final int PARALLEL_CHECKOUTS = 200;
+    private static final int THREADS = 50;
+    private static final long FIRST_CUSTOMER_ID = 1000L;
+    private static final long CONTESTED_WINE_ID = 1000L;
+    private static final int CONTESTED_STOCK = 50;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final CreateOrderRequestDto REQUEST_DTO = new CreateOrderRequestDto(
+            LocalDateTime.of(2025, 4, 11, 14, 30), "123 Main St, Ukraine");
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        deleteAllData();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/roles/insert-into-roles.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/users/insert-into-users.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/regions/insert-into-regions.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/wines/insert-into-wines.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/shoppingcarts/insert-into-shopping_carts.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/cartitems/insert-into-cart_items.sql"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteAllData();
+    }
+
+    @Test
+    @DisplayName("""
+            Place exactly one order when the same cart is checked out in parallel
+            """)
+    void createOrder_SameCartInParallel_PlacesSingleOrder() {
+        // Given
+        jdbcTemplate.update("UPDATE wines SET stock = 6 WHERE id = 1");
+
+        // When
+        List<Boolean> results = checkoutInParallel(index -> 4L);
+
+        // Then
+        assertEquals(1, count(results, true));
+        assertEquals(0, getStock(1L));
+        assertEquals(1, countOrders());
+    }
+
+    @Test
+    @DisplayName("""
+            Place an order for wines without tracked stock and leave their stock untracked
+            """)
+    void createOrder_UntrackedStock_PlacesOrder() {
+        // When
+        boolean placed = checkout(4L);
+
+        // Then
+        assertTrue(placed);
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT stock FROM wines WHERE id = 1", Integer.class));
+        assertEquals(1, countOrders());
+    }
+
+    @Test
+    @DisplayName("""
+            Never sell more bottles than are in stock when many carts compete for one wine
+            """)
+    void createOrder_ManyCustomersCompeteForOneWine_NeverOversells() {
+        // Given
+        insertCustomersCompetingForOneWine();
+        final long startedAt = System.nanoTime();
+
+        // When
+        List<Boolean> results = checkoutInParallel(index -> FIRST_CUSTOMER_ID + index);
+
+        // Then
+        long elapsedNanos = System.nanoTime() - startedAt;
+        System.out.printf("%d parallel checkouts placed %d orders in %d ms (%.1f orders/sec)%n",
+                PARALLEL_CHECKOUTS, count(results, true), elapsedNanos / 1_000_000,
+                PARALLEL_CHECKOUTS * 1e9 / elapsedNanos);
+        assertEquals(CONTESTED_STOCK, count(results, true));
+        assertEquals(0, getStock(CONTESTED_WINE_ID));
+        assertEquals(CONTESTED_STOCK, countOrders());
+    }
+
+    private List<Boolean> checkoutInParallel(LongUnaryOperator userIdByIndex) {
+        return assertTimeoutPreemptively(TIMEOUT, () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<Boolean>> checkouts = new ArrayList<>();
+                for (long index = 0; index < PARALLEL_CHECKOUTS; index++) {
+                    long userId = userIdByIndex.applyAsLong(index);
+                    checkouts.add(executor.submit(() -> {
+                        start.await();
+                        return checkout(userId);
+                    }));
+                }
+                start.countDown();
+                List<Boolean> results = new ArrayList<>();
+                for (Future<Boolean> checkout : checkouts) {
+                    results.add(checkout.get());
+                }
+                return results;
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    private boolean checkout(long userId) {
+        try {
+            orderService.createOrder(userId, REQUEST_DTO);
+            return true;
+        } catch (DataProcessingException | OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    private void insertCustomersCompetingForOneWine() {
+        List<Object[]> ids = LongStream.range(0, PARALLEL_CHECKOUTS)
+                .mapToObj(index -> new Object[]{FIRST_CUSTOMER_ID + index})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO users"
+                + " (id, username, password, email, first_name, last_name)"
+                + " VALUES (?, CONCAT('customer', ?), 'password', CONCAT('customer', ?,"
+                + " '@example.com'), 'John', 'Doe')",
+                ids.stream()
+                        .map(id -> new Object[]{id[0], id[0], id[0]})
+                        .toList());
+        jdbcTemplate.update("INSERT INTO wines (id, name, price, grape_variety, region_id, stock)"
+                + " VALUES (?, 'Contested Wine', 20.0, 'Merlot', 1, ?)",
+                CONTESTED_WINE_ID, CONTESTED_STOCK);
+        jdbcTemplate.batchUpdate("INSERT INTO shopping_carts (user_id) VALUES (?)", ids);
+        jdbcTemplate.batchUpdate("INSERT INTO cart_items (wine_id, shopping_cart_id, quantity)"
+                + " VALUES (?, ?, 1)",
+                ids.stream()
+                        .map(id -> new Object[]{CONTESTED_WINE_ID, id[0]})
+                        .toList());
+    }
+
+    private long count(List<Boolean> results, boolean placed) {
+        return results.stream()
+                .filter(result -> result == placed)
+                .count();
+    }
+
+    private int getStock(Long wineId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock FROM wines WHERE id = ?", Integer.class, wineId);
+    }
+
+    private int countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+    }
+
+    @SneakyThrows
+    private void deleteAllData() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/orderitems/delete-all-from-order_items.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/orders/delete-all-from-orders.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/cartitems/delete-all-from-cart_items.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/shoppingcarts/delete-all-from-shopping_carts.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/wines/delete-all-from-wines.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/regions/delete-all-from-regions.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/users/delete-all-from-users.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/roles/delete-all-from-roles.sql"));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import com.example.winehood.model.Order;
+import com.example.winehood.service.order.event.OrderEvent;
+import com.example.winehood.service.order.event.OrderEventDispatcher;
+import com.example.winehood.service.order.event.OrderEventHandler;
+import com.example.winehood.service.order.event.OrderEventOutbox;
+import com.example.winehood.service.order.event.OrderNotificationHandler;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventDispatcherTest {
+    private static final String CLAIM_TOKEN = "claim-token";
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    private static final String NOTIFICATION_URL = "http://notifications.test/orders";
+    private OrderEventDispatcher orderEventDispatcher;
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+    @Mock
+    private OrderEventHandler orderEventHandler;
+
+    @BeforeEach
+    void setUp() {
+        orderEventDispatcher = new OrderEventDispatcher(orderEventOutbox,
+                List.of(orderEventHandler), 1, 10, 10, 3, INITIAL_BACKOFF,
+                Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventDispatcher.destroy();
+    }
+
+    @Test
+    @DisplayName("""
+            Complete the event once every supporting handler succeeded
+            """)
+    void dispatch_HandlerSucceeds_CompletesEvent() {
+        // Given
+        OrderEvent event = getOrderEvent(0);
+        when(orderEventHandler.supports(OrderEvent.Type.ORDER_PLACED)).thenReturn(true);
+
+        // When
+        orderEventDispatcher.dispatch(event, CLAIM_TOKEN);
+
+        // Then
+        verify(orderEventHandler).handle(event);
+        verify(orderEventOutbox).complete(event.id(), CLAIM_TOKEN);
+    }
+
+    @Test
+    @DisplayName("""
+            Reschedule a failed event with exponential backoff
+            """)
+    void dispatch_HandlerFails_RetriesWithBackoff() {
+        // Given
+        OrderEvent event = getOrderEvent(1);
+        when(orderEventHandler.supports(OrderEvent.Type.ORDER_PLACED)).thenReturn(true);
+        doThrow(new IllegalStateException("Downstream is unavailable"))
+                .when(orderEventHandler).handle(event);
+        Instant before = Instant.now();
+
+        // When
+        orderEventDispatcher.dispatch(event, CLAIM_TOKEN);
+
+        // Then
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(orderEventOutbox).retry(eq(event.id()), eq(CLAIM_TOKEN), eq(2),
+                nextAttemptAt.capture(), anyString());
+        assertFalse(nextAttemptAt.getValue()
+                .isBefore(before.plus(INITIAL_BACKOFF.multipliedBy(2))));
+        verify(orderEventOutbox, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            Give up on an event after the last attempt failed
+            """)
+    void dispatch_LastAttemptFails_FailsEvent() {
+        // Given
+        OrderEvent event = getOrderEvent(2);
+        when(orderEventHandler.supports(OrderEvent.Type.ORDER_PLACED)).thenReturn(true);
+        doThrow(new IllegalStateException("Downstream is unavailable"))
+                .when(orderEventHandler).handle(event);
+
+        // When
+        orderEventDispatcher.dispatch(event, CLAIM_TOKEN);
+
+        // Then
+        verify(orderEventOutbox).fail(eq(event.id()), eq(CLAIM_TOKEN), eq(3), anyString());
+        verify(orderEventOutbox, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            Reschedule claimed events while the notification endpoint is down and
+            dead-letter them after the last attempt
+            """)
+    void poll_NotificationEndpointDown_RetriesThenDeadLetters() {
+        // Given
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        server.expect(ExpectedCount.twice(), requestTo(NOTIFICATION_URL))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        OrderEventDispatcher notifyingDispatcher = new OrderEventDispatcher(orderEventOutbox,
+                List.of(new OrderNotificationHandler(restClientBuilder, NOTIFICATION_URL)),
+                1, 10, 10, 3, INITIAL_BACKOFF, Duration.ofMinutes(10), Duration.ofMinutes(5),
+                Duration.ofDays(7));
+        OrderEvent firstAttempt = getOrderEvent(0);
+        OrderEvent lastAttempt = new OrderEvent(2L, OrderEvent.Type.ORDER_PLACED, 2L, 1L,
+                Order.Status.PENDING, 2);
+        when(orderEventOutbox.claim(anyString(), any(), any(), eq(10)))
+                .thenReturn(List.of(firstAttempt, lastAttempt));
+
+        // When
+        notifyingDispatcher.poll();
+
+        // Then
+        try {
+            verify(orderEventOutbox, timeout(5000)).retry(eq(firstAttempt.id()), anyString(),
+                    eq(1), any(), contains("503"));
+            verify(orderEventOutbox, timeout(5000)).fail(eq(lastAttempt.id()), anyString(),
+                    eq(3), contains("503"));
+            verify(orderEventOutbox, never()).complete(any(), any());
+            server.verify();
+        } finally {
+            notifyingDispatcher.destroy();
+        }
+    }
+
+    private OrderEvent getOrderEvent(int attempts) {
+        return new OrderEvent(1L, OrderEvent.Type.ORDER_PLACED, 1L, 1L,
+                Order.Status.PENDING, attempts);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderExportFormat;
+import com.example.winehood.dto.order.OrderExportParametersDto;
+import com.example.winehood.dto.orderitem.OrderItemDto;
+import com.example.winehood.model.Order;
+import com.example.winehood.repository.order.OrderExportView;
+import com.example.winehood.repository.order.OrderRepository;
+import com.example.winehood.service.order.OrderExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2025, 4, 11, 14, 30);
+    private static final OrderExportParametersDto PARAMETERS = new OrderExportParametersDto(
+            LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), null);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OrderExportServiceImpl orderExportService;
+    @Mock
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportServiceImpl(orderRepository, objectMapper);
+        when(orderRepository.streamAllForExport(LocalDateTime.of(2025, 4, 1, 0, 0),
+                LocalDateTime.of(2025, 5, 1, 0, 0), null))
+                .thenReturn(Stream.of(
+                        new TestOrderExportView(1L, "123 Main St, Ukraine", 1L, 1L, 3),
+                        new TestOrderExportView(1L, "123 Main St, Ukraine", 3L, 3L, 5),
+                        new TestOrderExportView(2L, "456 \"Oak\" St, Ukraine", null, null,
+                                null)));
+    }
+
+    @Test
+    @DisplayName("""
+            Export consecutive rows of the same order as a single NDJSON line
+            """)
+    void export_NdjsonFormat_WritesLinePerOrder() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        orderExportService.export(PARAMETERS, OrderExportFormat.NDJSON, outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(getOrderDto(1L, "123 Main St, Ukraine", Set.of(
+                        new OrderItemDto(1L, 1L, 3), new OrderItemDto(3L, 3L, 5))),
+                objectMapper.readValue(lines[0], OrderDto.class));
+        assertEquals(getOrderDto(2L, "456 \"Oak\" St, Ukraine", Set.of()),
+                objectMapper.readValue(lines[1], OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("""
+            Export a CSV row per order item quoting values with separators
+            """)
+    void export_CsvFormat_WritesRowPerOrderItem() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        orderExportService.export(PARAMETERS, OrderExportFormat.CSV, outputStream);
+
+        // Then
+        assertEquals("""
+                order_id,user_id,order_date,status,total,shipping_address,order_item_id,\
+                wine_id,quantity
+                1,4,2025-04-11T14:30,PENDING,180.0,"123 Main St, Ukraine",1,1,3
+                1,4,2025-04-11T14:30,PENDING,180.0,"123 Main St, Ukraine",3,3,5
+                2,4,2025-04-11T14:30,PENDING,180.0,"456 ""Oak"" St, Ukraine",,,
+                """, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    private OrderDto getOrderDto(Long id, String shippingAddress, Set<OrderItemDto> orderItems) {
+        return new OrderDto(id, 4L, ORDER_DATE, orderItems, Order.Status.PENDING,
+                BigDecimal.valueOf(180.0), shippingAddress);
+    }
+
+    private record TestOrderExportView(
+            Long orderId,
+            String shippingAddress,
+            Long orderItemId,
+            Long wineId,
+            Integer quantity) implements OrderExportView {
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public Long getUserId() {
+            return 4L;
+        }
+
+        @Override
+        public LocalDateTime getOrderDate() {
+            return ORDER_DATE;
+        }
+
+        @Override
+        public Order.Status getStatus() {
+            return Order.Status.PENDING;
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            return BigDecimal.valueOf(180.0);
+        }
+
+        @Override
+        public String getShippingAddress() {
+            return shippingAddress;
+        }
+
+        @Override
+        public Long getOrderItemId() {
+            return orderItemId;
+        }
+
+        @Override
+        public Long getWineId() {
+            return wineId;
+        }
+
+        @Override
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.example.winehood.model.Order;
+import com.example.winehood.service.order.event.OrderEvent;
+import com.example.winehood.service.order.event.OrderNotificationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+class OrderNotificationHandlerTest {
+    private static final String NOTIFICATION_URL = "http://notifications.test/orders";
+    private OrderNotificationHandler orderNotificationHandler;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        orderNotificationHandler = new OrderNotificationHandler(
+                restClientBuilder, NOTIFICATION_URL);
+    }
+
+    @Test
+    @DisplayName("""
+            Post the order event to the notification endpoint with an idempotency key
+            """)
+    void handle_EndpointAccepts_PostsNotification() {
+        // Given
+        server.expect(requestTo(NOTIFICATION_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Idempotency-Key", "order-event-7"))
+                .andExpect(content().json("""
+                        {"eventId": 7, "type": "ORDER_PLACED", "orderId": 3, "userId": 4,
+                         "orderStatus": "PENDING"}
+                        """))
+                .andRespond(withSuccess());
+
+        // When
+        orderNotificationHandler.handle(getOrderEvent());
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("""
+            Fail the event when the notification endpoint rejects it
+            """)
+    void handle_EndpointUnavailable_ThrowsException() {
+        // Given
+        server.expect(requestTo(NOTIFICATION_URL))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        assertThrows(HttpServerErrorException.class,
+                () -> orderNotificationHandler.handle(getOrderEvent()));
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("""
+            Skip order events when no notification endpoint is configured
+            """)
+    void supports_NoNotificationUrl_ReturnsFalse() {
+        // Given
+        OrderNotificationHandler disabledHandler = new OrderNotificationHandler(
+                RestClient.builder(), "");
+
+        // When
+        boolean actual = disabledHandler.supports(OrderEvent.Type.ORDER_PLACED);
+
+        // Then
+        assertFalse(actual);
+        assertTrue(orderNotificationHandler.supports(OrderEvent.Type.ORDER_PLACED));
+    }
+
+    private OrderEvent getOrderEvent() {
+        return new OrderEvent(7L, OrderEvent.Type.ORDER_PLACED, 3L, 4L,
+                Order.Status.PENDING, 0);
+    }
+}
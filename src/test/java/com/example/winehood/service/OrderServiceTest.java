@@ -3,14 +3,19 @@ package com.example.winehood.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.example.winehood.dto.order.BulkUpdateOrderStatusRequestDto;
 import com.example.winehood.dto.order.CreateOrderRequestDto;
 import com.example.winehood.dto.order.OrderDto;
+import com.example.winehood.dto.order.OrderStatusUpdateResultDto;
 import com.example.winehood.dto.order.UpdateOrderRequestDto;
 import com.example.winehood.dto.orderitem.OrderItemDto;
+import com.example.winehood.exception.DataProcessingException;
 import com.example.winehood.exception.EntityNotFoundException;
 import com.example.winehood.mapper.OrderItemMapper;
 import com.example.winehood.mapper.OrderMapper;
@@ -19,9 +24,15 @@ import com.example.winehood.model.OrderItem;
 import com.example.winehood.model.User;
 import com.example.winehood.model.Wine;
 import com.example.winehood.repository.order.OrderRepository;
+import com.example.winehood.repository.order.OrderStatusView;
 import com.example.winehood.repository.orderitem.OrderItemRepository;
+import com.example.winehood.repository.orderitem.OrderItemView;
 import com.example.winehood.repository.shoppingcart.ShoppingCartRepository;
 import com.example.winehood.service.order.OrderServiceImpl;
+import com.example.winehood.service.order.event.OrderEvent;
+import com.example.winehood.service.order.event.OrderEventOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
@@ -36,6 +47,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -56,6 +68,10 @@ public class OrderServiceTest {
     private OrderItemMapper orderItemMapper;
     @Mock
     private ShoppingCartRepository shoppingCartRepository;
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Test
     @DisplayName("""
@@ -81,13 +97,19 @@ public class OrderServiceTest {
                 Instant.parse("2025-04-12T12:30:00Z"),
                 ZoneId.of("UTC"));
         User user = getTestUser();
-        List<Order> orders = List.of(getOrder(user, fixedClock));
+        List<Order> orders = List.of(getOrder(user, fixedClock).setId(1L));
         Pageable pageable = PageRequest.of(0, 5);
         Page<Order> orderPage = new PageImpl<>(orders);
         List<OrderDto> expected = List.of(getOrderDto(orders.getFirst()));
+        OrderItemView orderItemView = new TestOrderItemView(1L, 1L, 1L, 3);
+        Set<OrderItemDto> orderItems = Set.of(new OrderItemDto(1L, 1L, 3));
 
         when(orderRepository.findAllByUserId(user.getId(), pageable)).thenReturn(orderPage);
-        when(orderMapper.toDto(orders.getFirst())).thenReturn(expected.getFirst());
+        when(orderItemRepository.findAllViewsByOrderIdIn(List.of(1L)))
+                .thenReturn(List.of(orderItemView));
+        when(orderItemMapper.toDtoFromView(orderItemView))
+                .thenReturn(orderItems.iterator().next());
+        when(orderMapper.toDto(orders.getFirst(), orderItems)).thenReturn(expected.getFirst());
 
         //When
         Page<OrderDto> actual = orderService.getOrders(user.getId(), pageable);
@@ -97,7 +119,8 @@ public class OrderServiceTest {
         assertEquals(expected, actual.getContent());
         verify(orderRepository, times(1))
                 .findAllByUserId(user.getId(), pageable);
-        verify(orderMapper, times(1)).toDto(orders.getFirst());
+        verify(orderItemRepository, times(1)).findAllViewsByOrderIdIn(List.of(1L));
+        verify(orderMapper, times(1)).toDto(orders.getFirst(), orderItems);
     }
 
     @Test
@@ -130,7 +153,7 @@ public class OrderServiceTest {
                 ZoneId.of("UTC"));
         User user = getTestUser();
         Order order = getOrder(user, fixedClock);
-        UpdateOrderRequestDto requestDto = new UpdateOrderRequestDto(Order.Status.SHIPPING);
+        UpdateOrderRequestDto requestDto = new UpdateOrderRequestDto(Order.Status.CONFIRMED);
         OrderDto expected = getOrderDto(order);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
@@ -146,6 +169,77 @@ public class OrderServiceTest {
         verify(orderRepository, times(1)).findById(order.getId());
         verify(orderRepository, times(1)).save(order);
         verify(orderMapper, times(1)).toDto(order);
+        verify(orderEventOutbox, times(1))
+                .append(OrderEvent.Type.ORDER_STATUS_CHANGED, order);
+    }
+
+    @Test
+    @DisplayName("""
+            Update Order Status when transition is not allowed
+            """)
+    void updateOrderStatus_NotAllowedTransition_ThrowsException() {
+        //Given
+        Clock fixedClock = Clock.fixed(
+                Instant.parse("2025-04-12T12:30:00Z"),
+                ZoneId.of("UTC"));
+        Order order = getOrder(getTestUser(), fixedClock);
+        UpdateOrderRequestDto requestDto = new UpdateOrderRequestDto(Order.Status.DELIVERED);
+
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+        //Then
+        assertThrows(DataProcessingException.class,
+                () -> orderService.updateOrderStatus(order.getId(), requestDto));
+        assertEquals(Order.Status.PENDING, order.getStatus());
+        verify(orderRepository, never()).save(order);
+    }
+
+    @Test
+    @DisplayName("""
+            Update status of several orders reporting the outcome for every order
+            """)
+    void updateOrderStatuses_MixedOrders_ReturnsOutcomePerOrder() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(
+                List.of(1L, 2L, 99L), Order.Status.CONFIRMED, Order.Status.SHIPPING);
+        OrderStatusView confirmed = new TestOrderStatusView(1L, 4L, Order.Status.CONFIRMED);
+        OrderStatusView completed = new TestOrderStatusView(2L, 5L, Order.Status.COMPLETED);
+
+        when(orderRepository.findStatusesForUpdate(Set.of(1L, 2L, 99L)))
+                .thenReturn(List.of(confirmed, completed));
+
+        //When
+        List<OrderStatusUpdateResultDto> actual = orderService.updateOrderStatuses(requestDto);
+
+        //Then
+        assertEquals(List.of(
+                new OrderStatusUpdateResultDto(1L,
+                        OrderStatusUpdateResultDto.Outcome.UPDATED, Order.Status.SHIPPING),
+                new OrderStatusUpdateResultDto(2L,
+                        OrderStatusUpdateResultDto.Outcome.STATUS_MISMATCH,
+                        Order.Status.COMPLETED),
+                new OrderStatusUpdateResultDto(99L,
+                        OrderStatusUpdateResultDto.Outcome.NOT_FOUND, null)), actual);
+        verify(orderRepository, times(1))
+                .updateStatus(List.of(1L), Order.Status.CONFIRMED, Order.Status.SHIPPING);
+        verify(orderEventOutbox, times(1))
+                .appendStatusChanges(List.of(confirmed), Order.Status.SHIPPING);
+        assertEquals(1.0, meterRegistry.counter("orders.status.updated").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Update status of several orders when transition is not allowed
+            """)
+    void updateOrderStatuses_NotAllowedTransition_ThrowsException() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(
+                List.of(1L), Order.Status.CANCELED, Order.Status.SHIPPING);
+
+        //Then
+        assertThrows(DataProcessingException.class,
+                () -> orderService.updateOrderStatuses(requestDto));
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
@@ -284,4 +378,45 @@ public class OrderServiceTest {
                 order.getShippingAddress()
         );
     }
+
+    private record TestOrderStatusView(Long id, Long userId, Order.Status status)
+            implements OrderStatusView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Order.Status getStatus() {
+            return status;
+        }
+    }
+
+    private record TestOrderItemView(Long id, Long orderId, Long wineId, Integer quantity)
+            implements OrderItemView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public Long getWineId() {
+            return wineId;
+        }
+
+        @Override
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.example.winehood.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,6 +13,8 @@ import com.example.winehood.exception.EntityNotFoundException;
 import com.example.winehood.mapper.RegionMapper;
 import com.example.winehood.model.Region;
 import com.example.winehood.repository.region.RegionRepository;
+import com.example.winehood.repository.region.RegionView;
+import com.example.winehood.service.region.RegionChangedEvent;
 import com.example.winehood.service.region.RegionServiceImpl;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,6 +38,8 @@ class RegionServiceTest {
     private RegionRepository regionRepository;
     @Mock
     private RegionMapper regionMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("""
@@ -56,6 +62,7 @@ class RegionServiceTest {
         assertEquals(expectedDto, actualDto);
         verify(regionMapper).toEntity(requestDto);
         verify(regionRepository).save(region);
+        verify(eventPublisher).publishEvent(new RegionChangedEvent(region.getId()));
         verify(regionMapper).toDto(region);
     }
 
@@ -102,13 +109,13 @@ class RegionServiceTest {
     void findAll_ValidPageable_ReturnsPageOfRegionDto() {
         // Given
         Pageable pageable = PageRequest.of(0, 5);
-        Region region1 = getRegion("Region One");
-        Region region2 = getRegion("Region Two");
+        RegionView region1 = mock(RegionView.class);
+        RegionView region2 = mock(RegionView.class);
         RegionDto dto1 = getRegionDto(1L, "Region One");
         RegionDto dto2 = getRegionDto(2L, "Region Two");
-        Page<Region> regionPage = new PageImpl<>(List.of(region1, region2));
+        Page<RegionView> regionPage = new PageImpl<>(List.of(region1, region2));
 
-        when(regionRepository.findAll(pageable)).thenReturn(regionPage);
+        when(regionRepository.findAllViews(pageable)).thenReturn(regionPage);
         when(regionMapper.toDto(region1)).thenReturn(dto1);
         when(regionMapper.toDto(region2)).thenReturn(dto2);
 
@@ -117,7 +124,7 @@ class RegionServiceTest {
 
         // Then
         assertEquals(List.of(dto1, dto2), result.getContent());
-        verify(regionRepository).findAll(pageable);
+        verify(regionRepository).findAllViews(pageable);
         verify(regionMapper).toDto(region1);
         verify(regionMapper).toDto(region2);
     }
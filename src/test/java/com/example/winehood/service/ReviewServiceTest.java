@@ -2,6 +2,7 @@ package com.example.winehood.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,8 +15,10 @@ import com.example.winehood.model.Review;
 import com.example.winehood.model.User;
 import com.example.winehood.model.Wine;
 import com.example.winehood.repository.review.ReviewRepository;
+import com.example.winehood.repository.review.ReviewView;
 import com.example.winehood.repository.wine.WineRepository;
 import com.example.winehood.service.review.ReviewServiceImpl;
+import com.example.winehood.service.wine.WineChangedEvent;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +49,9 @@ class ReviewServiceTest {
     @Mock
     private WineRepository wineRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("""
             Save a new review and return the corresponding review DTO
@@ -70,6 +77,8 @@ class ReviewServiceTest {
         verify(wineRepository).findById(requestDto.wineId());
         verify(reviewMapper).toEntity(requestDto);
         verify(reviewRepository).save(review);
+        verify(wineRepository).addRating(wine.getId(), review.getRating());
+        verify(eventPublisher).publishEvent(new WineChangedEvent(wine.getId()));
         verify(reviewMapper).toDto(review);
     }
 
@@ -97,10 +106,10 @@ class ReviewServiceTest {
             """)
     void findAllReviewsByWineId_ValidId_ReturnsReviewDtoPage() {
         // Given
-        Review review = getReview();
+        ReviewView review = mock(ReviewView.class);
         ReviewDto reviewDto = getReviewDto();
-        Page<Review> reviewPage = new PageImpl<>(List.of(review));
-        when(reviewRepository.findAllByWineId(
+        Page<ReviewView> reviewPage = new PageImpl<>(List.of(review));
+        when(reviewRepository.findAllViewsByWineId(
                 1L, PageRequest.of(0, 5))).thenReturn(reviewPage);
         when(reviewMapper.toDto(review)).thenReturn(reviewDto);
 
@@ -111,7 +120,7 @@ class ReviewServiceTest {
         // Then
         assertEquals(1, actual.getTotalElements());
         assertEquals(reviewDto, actual.getContent().getFirst());
-        verify(reviewRepository).findAllByWineId(1L, PageRequest.of(0, 5));
+        verify(reviewRepository).findAllViewsByWineId(1L, PageRequest.of(0, 5));
         verify(reviewMapper).toDto(review);
     }
 
@@ -121,8 +130,8 @@ class ReviewServiceTest {
             """)
     void findAllReviewsByWineId_NoReviews_ReturnsEmptyPage() {
         // Given
-        Page<Review> emptyPage = Page.empty();
-        when(reviewRepository.findAllByWineId(
+        Page<ReviewView> emptyPage = Page.empty();
+        when(reviewRepository.findAllViewsByWineId(
                 99L, PageRequest.of(0, 5))).thenReturn(emptyPage);
 
         // When
@@ -131,7 +140,7 @@ class ReviewServiceTest {
 
         // Then
         assertEquals(0, actual.getTotalElements());
-        verify(reviewRepository).findAllByWineId(99L, PageRequest.of(0, 5));
+        verify(reviewRepository).findAllViewsByWineId(99L, PageRequest.of(0, 5));
     }
 
     private User getUser() {
@@ -121,7 +121,7 @@ public class ShoppingCartServiceTest {
         CartItem cartItem = getCartItem(shoppingCart, wine);
         CartItemDto expected = getCartItemDto(cartItem);
 
-        when(shoppingCartRepository.findByUserId(user.getId()))
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
                 .thenReturn(Optional.of(shoppingCart));
         when(wineRepository.findById(requestDto.wineId()))
                 .thenReturn(Optional.of(wine));
@@ -135,7 +135,7 @@ public class ShoppingCartServiceTest {
         //Then
         assertNotNull(actual);
         assertEquals(expected, actual);
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
+        verify(shoppingCartRepository, times(1)).findForUpdateByUserId(user.getId());
         verify(wineRepository, times(1)).findById(requestDto.wineId());
         verify(cartItemMapper, times(1)).toEntity(requestDto);
         verify(cartItemMapper, times(1)).toDto(cartItem);
@@ -177,6 +177,8 @@ public class ShoppingCartServiceTest {
                 cartItem.getWine().getName(),
                 10);
 
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
         when(cartItemRepository.findById(cartItem.getId()))
                 .thenReturn(Optional.of(cartItem));
         when(cartItemMapper.toDto(cartItem)).thenReturn(expected);
@@ -204,6 +206,8 @@ public class ShoppingCartServiceTest {
         CartItem cartItem = getCartItem(shoppingCart, wine);
         UpdateCartItemRequestDto updateRequestDto = new UpdateCartItemRequestDto(10);
 
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
         when(cartItemRepository.findById(cartItem.getId()))
                 .thenReturn(Optional.empty());
 
@@ -224,6 +228,8 @@ public class ShoppingCartServiceTest {
         Wine wine = getWine();
         CartItem cartItem = getCartItem(shoppingCart, wine);
 
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
         when(cartItemRepository.findById(cartItem.getId()))
                 .thenReturn(Optional.of(cartItem));
 
@@ -246,6 +252,8 @@ public class ShoppingCartServiceTest {
         Wine wine = getWine();
         CartItem cartItem = getCartItem(shoppingCart, wine);
 
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
         when(cartItemRepository.findById(cartItem.getId()))
                 .thenReturn(Optional.empty());
 
@@ -256,6 +264,28 @@ public class ShoppingCartServiceTest {
         verify(cartItemRepository, times(1)).findById(cartItem.getId());
     }
 
+    @Test
+    @DisplayName("""
+            Delete several wines from ShoppingCart with a single statement
+            """)
+    void deleteWinesFromShoppingCart_ExistingIds_DeletesInBulk() {
+        //Given
+        User user = getTestUser();
+        ShoppingCart shoppingCart = getShoppingCart(user);
+        List<Long> cartItemIds = List.of(1L, 2L);
+
+        when(shoppingCartRepository.findForUpdateByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
+
+        //When
+        shoppingCartService.deleteWinesFromShoppingCart(user, cartItemIds);
+
+        //Then
+        verify(shoppingCartRepository, times(1)).findForUpdateByUserId(user.getId());
+        verify(cartItemRepository, times(1))
+                .deleteAllByShoppingCartIdAndIdIn(shoppingCart.getId(), cartItemIds);
+    }
+
     private User getTestUser() {
         return new User()
                 .setId(4L)
@@ -2,6 +2,7 @@ package com.example.winehood.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -16,7 +17,9 @@ import com.example.winehood.model.Role;
 import com.example.winehood.model.User;
 import com.example.winehood.repository.role.RoleRepository;
 import com.example.winehood.repository.user.UserRepository;
+import com.example.winehood.security.TokenRevocationRegistry;
 import com.example.winehood.service.shoppingcart.ShoppingCartServiceImpl;
+import com.example.winehood.service.user.UserChangedEvent;
 import com.example.winehood.service.user.UserServiceImpl;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,10 @@ public class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private ShoppingCartServiceImpl shoppingCartService;
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("""
@@ -125,6 +133,7 @@ public class UserServiceTest {
         verify(roleRepository).findAllByNameContaining(roleNamesSet);
         verify(userRepository).save(user);
         verify(userMapper).toDto(user);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
         verifyNoMoreInteractions(userRepository, roleRepository, userMapper);
     }
 
@@ -152,6 +161,7 @@ public class UserServiceTest {
         User user = getUser();
         UserResponseDto expected = getUserResponseDto();
 
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(userMapper.toDto(user)).thenReturn(expected);
 
         // When
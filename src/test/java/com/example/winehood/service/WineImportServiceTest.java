@@ -0,0 +1,201 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.winehood.dto.wine.CreateWineRequestDto;
+import com.example.winehood.dto.wine.WineImportBatchErrorDto;
+import com.example.winehood.dto.wine.WineImportErrorDto;
+import com.example.winehood.dto.wine.WineImportFormat;
+import com.example.winehood.dto.wine.WineImportResultDto;
+import com.example.winehood.exception.DataProcessingException;
+import com.example.winehood.repository.catalog.CatalogVersionRepository;
+import com.example.winehood.repository.region.RegionRepository;
+import com.example.winehood.repository.wine.WineImportRepository;
+import com.example.winehood.service.wine.WineCatalogChangedEvent;
+import com.example.winehood.service.wine.WineImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WineImportServiceTest {
+    private WineImportServiceImpl wineImportService;
+    @Mock
+    private WineImportRepository wineImportRepository;
+    @Mock
+    private RegionRepository regionRepository;
+    @Mock
+    private CatalogVersionRepository catalogVersionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        wineImportService = new WineImportServiceImpl(wineImportRepository, regionRepository,
+                catalogVersionRepository, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher,
+                new TransactionTemplate(transactionManager), 2, 10);
+    }
+
+    @Test
+    @DisplayName("""
+            Upsert valid JSON rows in batches and report rows that can't be imported
+            """)
+    void importWines_JsonRows_UpsertsValidRowsInBatches() throws Exception {
+        // Given
+        when(regionRepository.findAllIds()).thenReturn(Set.of(1L, 2L));
+        InputStream inputStream = toInputStream("""
+                [
+                  {"name": "Wine A", "price": 20.0, "grapeVariety": "Merlot", "regionId": 1},
+                  {"name": "Wine B", "price": 30.0, "grapeVariety": "Syrah", "regionId": 2,
+                   "stock": 5},
+                  {"name": "Wine C", "price": 25.0, "grapeVariety": "Gamay", "regionId": 1},
+                  {"name": "Wine D", "price": 25.0, "grapeVariety": "Gamay", "regionId": 99},
+                  {"name": "Wine E", "price": "cheap", "grapeVariety": "Gamay", "regionId": 1}
+                ]
+                """);
+
+        // When
+        WineImportResultDto actual = wineImportService.importWines(
+                inputStream, WineImportFormat.JSON);
+
+        // Then
+        assertEquals(5, actual.rowsRead());
+        assertEquals(3, actual.imported());
+        assertEquals(2, actual.failed());
+        assertEquals(List.of(4L, 5L), actual.errors().stream()
+                .map(WineImportErrorDto::row)
+                .toList());
+        assertEquals("Can't find region by id: 99", actual.errors().get(0).message());
+        verify(wineImportRepository).upsert(List.of(
+                getRequestDto("Wine A", "20.0", "Merlot", 1L, null),
+                getRequestDto("Wine B", "30.0", "Syrah", 2L, 5)));
+        verify(wineImportRepository).upsert(List.of(
+                getRequestDto("Wine C", "25.0", "Gamay", 1L, null)));
+        verify(catalogVersionRepository, times(2)).bump(CatalogVersionRepository.WINES);
+        verify(eventPublisher).publishEvent(new WineCatalogChangedEvent());
+    }
+
+    @Test
+    @DisplayName("""
+            Parse quoted CSV values by header name and report invalid rows
+            """)
+    void importWines_CsvRows_UpsertsValidRows() throws Exception {
+        // Given
+        when(regionRepository.findAllIds()).thenReturn(Set.of(1L));
+        InputStream inputStream = toInputStream("""
+                region_id,name,grape_variety,price\r
+                1,"Château ""Grand"", Reserve",Merlot,20.50\r
+                x,Wine B,Merlot,20.50\r
+                1,,Merlot,20.50\r
+                1,Wine D,Merlot\r
+                """);
+
+        // When
+        WineImportResultDto actual = wineImportService.importWines(
+                inputStream, WineImportFormat.CSV);
+
+        // Then
+        assertEquals(new WineImportResultDto(4, 1, 3, List.of(
+                new WineImportErrorDto(2, "Invalid region_id: x"),
+                new WineImportErrorDto(3, "name Name may not be blank"),
+                new WineImportErrorDto(4, "Expected 4 values but got 3")), List.of()), actual);
+        verify(wineImportRepository).upsert(List.of(getRequestDto(
+                "Château \"Grand\", Reserve", "20.50", "Merlot", 1L, null)));
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a CSV stream without the required columns
+            """)
+    void importWines_CsvWithoutRequiredColumns_ThrowsException() {
+        // Given
+        when(regionRepository.findAllIds()).thenReturn(Set.of(1L));
+        InputStream inputStream = toInputStream("""
+                name,price
+                Wine A,20.0
+                """);
+
+        // When
+        Exception actual = assertThrows(DataProcessingException.class,
+                () -> wineImportService.importWines(inputStream, WineImportFormat.CSV));
+
+        // Then
+        assertEquals("CSV header is missing columns: grape_variety, region_id",
+                actual.getMessage());
+        verifyNoInteractions(wineImportRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("""
+            Keep committed batches and report a failed batch and a malformed tail
+            """)
+    void importWines_FailedBatchAndMalformedTail_ReportsProgress() throws Exception {
+        // Given
+        when(regionRepository.findAllIds()).thenReturn(Set.of(1L));
+        List<CreateWineRequestDto> failingBatch = List.of(
+                getRequestDto("Wine C", "25.0", "Gamay", 1L, null),
+                getRequestDto("Wine D", "25.0", "Gamay", 1L, null));
+        lenient().doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .when(wineImportRepository).upsert(failingBatch);
+        InputStream inputStream = toInputStream("""
+                [
+                  {"name": "Wine A", "price": 20.0, "grapeVariety": "Merlot", "regionId": 1},
+                  {"name": "Wine B", "price": 30.0, "grapeVariety": "Syrah", "regionId": 1},
+                  {"name": "Wine C", "price": 25.0, "grapeVariety": "Gamay", "regionId": 1},
+                  {"name": "Wine D", "price": 25.0, "grapeVariety": "Gamay", "regionId": 1},
+                  {"name": "Wine E", "price": 25.0, "grapeVariety": "Gamay", "regionId": 1},
+                  {"name": "Wine F",
+                """);
+
+        // When
+        WineImportResultDto actual = wineImportService.importWines(
+                inputStream, WineImportFormat.JSON);
+
+        // Then
+        assertEquals(6, actual.rowsRead());
+        assertEquals(3, actual.imported());
+        assertEquals(3, actual.failed());
+        assertEquals(List.of(new WineImportBatchErrorDto(3, 4, "Duplicate entry")),
+                actual.failedBatches());
+        assertEquals(6, actual.errors().get(0).row());
+        verify(wineImportRepository).upsert(List.of(
+                getRequestDto("Wine E", "25.0", "Gamay", 1L, null)));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(eventPublisher).publishEvent(new WineCatalogChangedEvent());
+    }
+
+    private InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CreateWineRequestDto getRequestDto(String name, String price, String grapeVariety,
+                                               Long regionId, Integer stock) {
+        return new CreateWineRequestDto(name, new BigDecimal(price), grapeVariety, regionId,
+                stock);
+    }
+}
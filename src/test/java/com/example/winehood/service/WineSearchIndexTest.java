@@ -0,0 +1,120 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.winehood.dto.wine.WineSearchHitDto;
+import com.example.winehood.model.Region;
+import com.example.winehood.model.Wine;
+import com.example.winehood.service.search.WineSearchIndex;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WineSearchIndexTest {
+    private WineSearchIndex wineSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        wineSearchIndex = new WineSearchIndex();
+        Region napa = new Region().setId(1L).setName("Napa Valley").setCountry("USA");
+        Region bordeaux = new Region().setId(2L).setName("Bordeaux").setCountry("France");
+        wineSearchIndex.rebuild(List.of(
+                getWine(1L, "Château Margaux", "Cabernet Sauvignon", bordeaux),
+                getWine(2L, "Opus One", "Cabernet Sauvignon", napa),
+                getWine(3L, "Merlot Reserve", "Merlot", napa)));
+    }
+
+    @Test
+    @DisplayName("""
+            Search by a word prefix ignoring case and accents
+            """)
+    void search_PrefixWithoutAccents_ReturnsMatchingWine() {
+        // When
+        List<WineSearchHitDto> actual = wineSearchIndex.search("chat", 10);
+
+        // Then
+        assertEquals(List.of(1L), getIds(actual));
+    }
+
+    @Test
+    @DisplayName("""
+            Search with a single typo still finds the wine
+            """)
+    void search_OneTypo_ReturnsMatchingWine() {
+        // When
+        List<WineSearchHitDto> actual = wineSearchIndex.search("merlott", 10);
+
+        // Then
+        assertEquals(List.of(3L), getIds(actual));
+    }
+
+    @Test
+    @DisplayName("""
+            Rank name matches above grape variety matches and require every term
+            """)
+    void search_SeveralTerms_RanksByFieldWeight() {
+        // When
+        List<WineSearchHitDto> byGrape = wineSearchIndex.search("cabernet", 10);
+        List<WineSearchHitDto> byNameAndCountry = wineSearchIndex.search("merlot usa", 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L), getIds(byGrape));
+        assertEquals(List.of(3L), getIds(byNameAndCountry));
+    }
+
+    @Test
+    @DisplayName("""
+            Removed and re-indexed wines are reflected in results
+            """)
+    void index_UpdatedAndRemovedWines_UpdatesResults() {
+        // Given
+        Region napa = new Region().setId(1L).setName("Napa Valley").setCountry("USA");
+
+        // When
+        wineSearchIndex.remove(1L);
+        wineSearchIndex.index(getWine(2L, "Overture", "Cabernet Sauvignon", napa));
+
+        // Then
+        assertTrue(wineSearchIndex.search("chateau", 10).isEmpty());
+        assertTrue(wineSearchIndex.search("opus", 10).isEmpty());
+        assertEquals(List.of(2L), getIds(wineSearchIndex.search("overture", 10)));
+        assertEquals(2, wineSearchIndex.size());
+    }
+
+    @Test
+    @DisplayName("""
+            Substituted and missing letters match until the wine is removed
+            """)
+    void search_TypoAfterRemoval_ReturnsNoWines() {
+        // Given
+        List<WineSearchHitDto> bySubstitution = wineSearchIndex.search("margoux", 10);
+        List<WineSearchHitDto> byDeletion = wineSearchIndex.search("bordaux", 10);
+
+        // When
+        wineSearchIndex.remove(1L);
+
+        // Then
+        assertEquals(List.of(1L), getIds(bySubstitution));
+        assertEquals(List.of(1L), getIds(byDeletion));
+        assertTrue(wineSearchIndex.search("margoux", 10).isEmpty());
+        assertTrue(wineSearchIndex.search("bordaux", 10).isEmpty());
+    }
+
+    private Wine getWine(Long id, String name, String grapeVariety, Region region) {
+        return new Wine()
+                .setId(id)
+                .setName(name)
+                .setPrice(BigDecimal.valueOf(20.0))
+                .setGrapeVariety(grapeVariety)
+                .setRegion(region);
+    }
+
+    private List<Long> getIds(List<WineSearchHitDto> hits) {
+        return hits.stream()
+                .map(WineSearchHitDto::id)
+                .toList();
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.winehood.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.example.winehood.dto.wine.CreateWineRequestDto;
 import com.example.winehood.dto.wine.WineDto;
 import com.example.winehood.dto.wine.WineDtoWithoutRegion;
+import com.example.winehood.exception.DataProcessingException;
 import com.example.winehood.mapper.WineMapper;
 import com.example.winehood.model.Region;
 import com.example.winehood.model.Wine;
 import com.example.winehood.repository.region.RegionRepository;
 import com.example.winehood.repository.wine.WineRepository;
+import com.example.winehood.repository.wine.WineView;
+import com.example.winehood.service.search.WineSearchIndex;
+import com.example.winehood.service.search.WineSuggester;
+import com.example.winehood.service.wine.WineChangedEvent;
 import com.example.winehood.service.wine.WineServiceImpl;
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,6 +51,15 @@ class WineServiceTest {
     @Mock
     private RegionRepository regionRepository;
 
+    @Mock
+    private WineSearchIndex wineSearchIndex;
+
+    @Mock
+    private WineSuggester wineSuggester;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("""
             Save a new wine and return the corresponding wine DTO
@@ -64,9 +82,30 @@ class WineServiceTest {
         // Then
         assertEquals(expectedWineDto, actual);
         verify(wineRepository).save(wine);
+        verify(eventPublisher).publishEvent(new WineChangedEvent(wine.getId()));
         verify(wineMapper).toDto(wine);
     }
 
+    @Test
+    @DisplayName("""
+            Reject a new wine with the name of an existing wine in the same region
+            """)
+    void saveWine_DuplicateNameInRegion_ThrowsException() {
+        // Given
+        CreateWineRequestDto requestDto = getCreateWineRequestDto();
+        when(wineRepository.existsByNameAndRegionId(requestDto.name(), requestDto.regionId()))
+                .thenReturn(true);
+
+        // When
+        Exception actual = assertThrows(DataProcessingException.class,
+                () -> wineService.save(requestDto));
+
+        // Then
+        assertEquals("Wine with name Wine A already exists in region with id 1",
+                actual.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("""
             Find wine by id when it exists and return the corresponding wine DTO
@@ -94,13 +133,14 @@ class WineServiceTest {
             """)
     void findAllWines_ValidPageable_ReturnsPageOfWineDto() {
         // Given
-        Wine wine = getWine();
+        WineView wineView = mock(WineView.class);
         WineDto expectedWineDto = getWineDto();
-        List<Wine> wines = List.of(wine);
-        Page<Wine> winePage = new PageImpl<>(wines, PageRequest.of(0, 5), wines.size());
+        List<WineView> wineViews = List.of(wineView);
+        Page<WineView> winePage = new PageImpl<>(
+                wineViews, PageRequest.of(0, 5), wineViews.size());
 
-        when(wineRepository.findAll(PageRequest.of(0, 5))).thenReturn(winePage);
-        when(wineMapper.toDto(wine)).thenReturn(expectedWineDto);
+        when(wineRepository.findAllViews(PageRequest.of(0, 5))).thenReturn(winePage);
+        when(wineMapper.toDto(wineView)).thenReturn(expectedWineDto);
 
         // When
         Page<WineDto> actual = wineService.findAll(PageRequest.of(0, 5));
@@ -108,8 +148,8 @@ class WineServiceTest {
         // Then
         assertEquals(1, actual.getTotalElements());
         assertEquals(expectedWineDto, actual.getContent().get(0));
-        verify(wineRepository).findAll(PageRequest.of(0, 5));
-        verify(wineMapper).toDto(wine);
+        verify(wineRepository).findAllViews(PageRequest.of(0, 5));
+        verify(wineMapper).toDto(wineView);
     }
 
     @Test
@@ -148,7 +188,8 @@ class WineServiceTest {
                 "Updated Wine",
                 BigDecimal.valueOf(25.0),
                 "Chardonnay",
-                wine.getRegion().getId());
+                wine.getRegion().getId(),
+                100);
         WineDto expectedWineDto = getWineDto();
 
         when(wineRepository.findById(wine.getId())).thenReturn(Optional.of(wine));
@@ -185,7 +226,8 @@ class WineServiceTest {
     }
 
     private CreateWineRequestDto getCreateWineRequestDto() {
-        return new CreateWineRequestDto("Wine A", BigDecimal.valueOf(20.0), "Merlot", 1L);
+        return new CreateWineRequestDto(
+                "Wine A", BigDecimal.valueOf(20.0), "Merlot", 1L, 100);
     }
 
     private Wine getWine() {
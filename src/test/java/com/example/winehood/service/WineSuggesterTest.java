@@ -0,0 +1,70 @@
+package com.example.winehood.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.winehood.dto.wine.WineSuggestionsDto;
+import com.example.winehood.model.Region;
+import com.example.winehood.model.Wine;
+import com.example.winehood.service.search.WineSuggester;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WineSuggesterTest {
+    private WineSuggester wineSuggester;
+
+    @BeforeEach
+    void setUp() {
+        wineSuggester = new WineSuggester();
+        wineSuggester.rebuild(
+                List.of(
+                        getWine(1L, "Merlot Reserve", "Merlot"),
+                        getWine(2L, "Margaux", "Cabernet Sauvignon"),
+                        getWine(3L, "Mas Blanc", "Merlot")),
+                List.of(
+                        new Region().setId(1L).setName("Mendoza").setCountry("Argentina"),
+                        new Region().setId(2L).setName("Bordeaux").setCountry("France")));
+    }
+
+    @Test
+    @DisplayName("""
+            Suggest names, grape varieties and regions for a prefix ranked by popularity
+            """)
+    void suggest_CommonPrefix_ReturnsRankedSuggestions() {
+        // When
+        WineSuggestionsDto actual = wineSuggester.suggest("M", 5);
+
+        // Then
+        assertEquals(List.of("Margaux", "Mas Blanc", "Merlot Reserve"), actual.names());
+        assertEquals(List.of("Merlot"), actual.grapeVarieties());
+        assertEquals(List.of("Mendoza"), actual.regionNames());
+    }
+
+    @Test
+    @DisplayName("""
+            Suggestions follow incremental updates and removals
+            """)
+    void suggest_AfterUpdates_ReflectsChanges() {
+        // When
+        wineSuggester.index(getWine(3L, "Malbec Classic", "Malbec"));
+        wineSuggester.removeWine(2L);
+        wineSuggester.index(new Region().setId(2L).setName("Mosel").setCountry("Germany"));
+
+        // Then
+        WineSuggestionsDto actual = wineSuggester.suggest("ma", 5);
+        assertEquals(List.of("Malbec Classic"), actual.names());
+        assertEquals(List.of("Malbec"), actual.grapeVarieties());
+        assertEquals(List.of("Mosel"), wineSuggester.suggest("mo", 5).regionNames());
+        assertTrue(wineSuggester.suggest("bor", 5).regionNames().isEmpty());
+        assertTrue(wineSuggester.suggest("cab", 5).grapeVarieties().isEmpty());
+    }
+
+    private Wine getWine(Long id, String name, String grapeVariety) {
+        return new Wine()
+                .setId(id)
+                .setName(name)
+                .setGrapeVariety(grapeVariety);
+    }
+}
@@ -0,0 +1,8 @@
+DELETE FROM cart_items;
+DELETE FROM shopping_carts;
+DELETE FROM order_items;
+DELETE FROM orders;
+DELETE FROM reviews;
+DELETE FROM wines;
+DELETE FROM regions;
+DELETE FROM users;
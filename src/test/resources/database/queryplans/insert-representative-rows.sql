@@ -0,0 +1,44 @@
+SET SESSION cte_max_recursion_depth = 20000;
+
+INSERT INTO regions (id, name, country)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50)
+SELECT n, CONCAT('Region ', n), CONCAT('Country ', n % 10) FROM seq;
+
+INSERT INTO wines (id, name, price, grape_variety, region_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+SELECT n, CONCAT('Wine ', n), 10.0 + n % 90,
+       CASE n % 50 WHEN 0 THEN 'Merlot' WHEN 1 THEN 'Pinot Noir'
+           ELSE CONCAT('Grape ', n % 50) END,
+       1 + n % 50
+FROM seq;
+
+INSERT INTO users (id, username, password, email, first_name, last_name)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT n, CONCAT('user', n), 'password', CONCAT('user', n, '@example.com'), 'First', 'Last'
+FROM seq;
+
+INSERT INTO reviews (id, text, rating, wine_id, user_id, timestamp)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT n, CONCAT('Review ', n), 1 + n % 5, 1 + n % 5000, 1 + n % 1000,
+       '2024-04-01 12:00:00' + INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO orders (id, user_id, status, total, order_date, shipping_address)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+SELECT n, 1 + n % 1000, ELT(1 + n % 3, 'PENDING', 'COMPLETED', 'CANCELED'), 100.0,
+       '2025-04-01 10:00:00' + INTERVAL n MINUTE, CONCAT(n, ' Main St, Ukraine')
+FROM seq;
+
+INSERT INTO order_items (id, order_id, wine_id, quantity, price)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 15000)
+SELECT n, 1 + n % 5000, 1 + n % 5000, 1 + n % 6, 20.0 FROM seq;
+
+INSERT INTO shopping_carts (user_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT n FROM seq;
+
+INSERT INTO cart_items (shopping_cart_id, wine_id, quantity)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 3000)
+SELECT 1 + n % 1000, n, 1 + n % 6 FROM seq;
+
+ANALYZE TABLE regions, wines, users, reviews, orders, order_items, shopping_carts, cart_items;